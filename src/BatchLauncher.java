@@ -0,0 +1,85 @@
+/*
+ * Plays many headless games with a scripted build order and prints the statistics.
+ * Make sure your current working directory is the same as the directory
+ * of this file, just like with the normal launcher.
+ */
+
+import game.batch.BatchCoordinator;
+import game.batch.BatchRunner;
+import game.batch.BatchStatistics;
+import game.batch.BuildOrder;
+import java.io.IOException;
+
+
+/**
+ * The launcher of the batch runner.
+ * 
+ * Usage: `java BatchLauncher <firstSeed> <lastSeed> ["build order"] [threads] [processes]`,
+ * see `BuildOrder` for how to write a build order. With more than one process,
+ * the seeds are spread over that many worker processes that each use `threads` threads.
+ */
+public class BatchLauncher {
+    private static final String DEFAULT_BUILD_ORDER =
+        "archer@0 archer@1 bomb@2 upgrade@0 wizard@3 upgrade@1 slingshot@4 laser@5 "
+        + "upgrade@2 upgrade@3 archer@6 bomb@7 upgrade@4 upgrade@5 wizard@8 laser@9";
+
+    public static void main(String[] args) {
+        if (args.length < 2 || args.length > 5) {
+            System.out.println(
+                "Usage: java BatchLauncher <firstSeed> <lastSeed> "
+                + "[\"build order\"] [threads] [processes]"
+            );
+            System.exit(1);
+        }
+        long firstSeed = parseArgument(args[0]);
+        long lastSeed = parseArgument(args[1]);
+        BuildOrder buildOrder = null;
+        try {
+            buildOrder = new BuildOrder(args.length > 2 ? args[2] : DEFAULT_BUILD_ORDER);
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            System.exit(1);
+        }
+        int threads = args.length > 3
+            ? (int) parseArgument(args[3])
+            : Runtime.getRuntime().availableProcessors();
+        int processes = args.length > 4 ? (int) parseArgument(args[4]) : 1;
+
+        System.out.println(String.format(
+            "Playing seeds %d to %d on %d processes of %d threads with build order: %s",
+            firstSeed, lastSeed, processes, threads, buildOrder
+        ));
+        long start = System.nanoTime();
+        BatchStatistics stats;
+        if (processes > 1) {
+            try {
+                stats = new BatchCoordinator(buildOrder, processes, threads, 2 * threads)
+                    .run(firstSeed, lastSeed);
+            } catch (IOException e) {
+                System.out.println("Could not run the workers: " + e.getMessage());
+                System.exit(1);
+                return;
+            }
+        } else {
+            stats = new BatchRunner(buildOrder).run(firstSeed, lastSeed, threads);
+        }
+        System.out.println(stats);
+        System.out.println(String.format("Took %.1f s", (System.nanoTime() - start) / 1e9));
+    }
+
+    /**
+     * Parses a numeric argument, exits if it is not a number.
+     * 
+     * @param argument The argument.
+     * @return         The parsed number.
+     */
+    private static long parseArgument(String argument) {
+        try {
+            return Long.parseLong(argument);
+        } catch (NumberFormatException e) {
+            System.out.println(String.format("'%s' is not a valid number.", argument));
+            System.exit(1);
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Runs the game headless in endless mode and reports how the simulation holds up.
+ * Make sure your current working directory is the same as the directory
+ * of this file, just like with the normal launcher.
+ */
+
+import game.EndlessSettings;
+import game.Game;
+import java.util.ArrayList;
+import location.Location;
+import towers.Tower;
+import towers.implementations.ArcherTower;
+import towers.implementations.BombTower;
+import towers.implementations.LaserTower;
+import towers.implementations.SlingshotTower;
+import towers.implementations.WizardTower;
+
+
+/**
+ * The launcher of the endless stress mode.
+ * Every placeable location gets a fully upgraded tower, after which the waves keep
+ * growing until the given amount of waves is done. For every wave the amount
+ * of ticks per second and the amount of entities on the field are reported.
+ * 
+ * The parts of a tick that can run in parallel use the given amount of threads,
+ * all available processors by default.
+ * 
+ * Usage: `java StressLauncher [seed] [waves] [enemiesPerSpawn] [threads]`.
+ */
+public class StressLauncher {
+    private static final int DEFAULT_WAVES = 60;
+    private static final int DEFAULT_ENEMIES_PER_SPAWN = 8;
+    private static final long MAX_TICKS = 100_000_000L;
+
+    public static void main(String[] args) {
+        Long seed = args.length > 0 ? parseArgument(args[0]) : null;
+        int waves = args.length > 1 ? (int) parseArgument(args[1]) : DEFAULT_WAVES;
+        int enemiesPerSpawn = args.length > 2
+            ? (int) parseArgument(args[2])
+            : DEFAULT_ENEMIES_PER_SPAWN;
+        int threads = args.length > 3
+            ? (int) parseArgument(args[3])
+            : Runtime.getRuntime().availableProcessors();
+
+        Game game = new Game();
+        game.setParallelism(threads);
+        game.setEndlessSettings(new EndlessSettings(1.8, 40, 0, 5, enemiesPerSpawn, true));
+        game.runHeadless(seed);
+        placeTowers(game);
+        game.start();
+
+        System.out.println(String.format(
+            "%6s %10s %10s %12s %10s %12s",
+            "wave", "value", "ticks", "ticks/s", "enemies", "projectiles"
+        ));
+        int wave = game.waveHandler.getWaveNumber();
+        int waveValue = game.waveHandler.getWaveValue();
+        long waveTicks = 0;
+        int maxEnemies = 0;
+        int maxProjectiles = 0;
+        long waveStart = System.nanoTime();
+        for (long tick = 0; tick < MAX_TICKS && game.isRunning(); tick++) {
+            game.tick();
+            waveTicks++;
+            maxEnemies = Math.max(maxEnemies, game.field.enemyStore.size());
+            maxProjectiles = Math.max(maxProjectiles, game.field.getProjectileCount());
+            if (game.waveHandler.getWaveNumber() == wave) {
+                continue;
+            }
+
+            double seconds = (System.nanoTime() - waveStart) / 1e9;
+            if (wave > 0) {  // Nothing happens before the first wave.
+                System.out.println(String.format(
+                    "%6d %10d %10d %12.0f %10d %12d",
+                    wave, waveValue, waveTicks, waveTicks / seconds, maxEnemies, maxProjectiles
+                ));
+            }
+            if (wave >= waves) {
+                break;
+            }
+            wave = game.waveHandler.getWaveNumber();
+            waveValue = game.waveHandler.getWaveValue();
+            waveTicks = 0;
+            maxEnemies = 0;
+            maxProjectiles = 0;
+            waveStart = System.nanoTime();
+        }
+    }
+
+    /**
+     * Buys a fully upgraded tower on every placeable location,
+     * cycling through the tower types.
+     * 
+     * @param game The game to place the towers in.
+     */
+    private static void placeTowers(Game game) {
+        game.addGold(10_000_000);
+        ArrayList<Location> locations = new ArrayList<>(game.field.placeable);
+        for (int i = 0; i < locations.size(); i++) {
+            Location location = locations.get(i);
+            Tower tower;
+            switch (i % 5) {
+                case 0: tower = new ArcherTower(game, location); break;
+                case 1: tower = new BombTower(game, location); break;
+                case 2: tower = new WizardTower(game, location); break;
+                case 3: tower = new SlingshotTower(game, location); break;
+                default: tower = new LaserTower(game, location); break;
+            }
+            game.buyTower(tower);
+            while (tower.canUpgrade()) {
+                game.upgradeTower(tower);
+            }
+        }
+    }
+
+    /**
+     * Parses a numeric argument, exits if it is not a number.
+     * 
+     * @param argument The argument.
+     * @return         The parsed number.
+     */
+    private static long parseArgument(String argument) {
+        try {
+            return Long.parseLong(argument);
+        } catch (NumberFormatException e) {
+            System.out.println(String.format("'%s' is not a valid number.", argument));
+            System.exit(1);
+        }
+        return 0;
+    }
+}
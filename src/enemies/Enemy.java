@@ -1,220 +1,111 @@
 package enemies;
 
-import game.Game;
-import java.util.Map;
 import location.BaseLocationable;
 import location.Location;
 
 
 /**
- * An enemy on the field.
+ * A view on a single enemy of an `EnemyStore`.
+ *
+ * The store only hands these out for things that have to keep referring to an enemy
+ * while its handle changes, like the target of a projectile or a beam. While the
+ * enemy is on the field everything is read from the store. Once it is removed
+ * the view keeps the state it had at that moment.
  */
-public abstract class Enemy extends BaseLocationable {
-    protected final Game game;
-    public final int value;
-    public final int weight;
+public final class Enemy extends BaseLocationable {
+    private final EnemyStore store;
+    public final EnemyType type;
+    public final int id;  // The id of the enemy in the store, which never changes.
+    int handle;  // Kept up to date by the store, -1 once the enemy is removed.
 
-    public final int maxHealth;
-    public final double speed;
-    public final double size;
-    public final boolean flying;
-
-    protected int health;
-    protected int ticksElapsed;
-    protected boolean done;
-    public final Location drawOffsetLocation;
-
-    /**
-     * Constructs a new enemy.
-     * 
-     * @param game      The game this enemy is in.
-     * @param value     The value of this enemy. This is used to calculate
-     *                  the wave size and the gold reward on death.
-     * @param weight    The weight of this enemy. This is used to determine
-     *                  how often this enemy should appear in a wave.
-     * @param maxHealth The maximum health of this enemy.
-     * @param speed     The speed of this enemy in field pixels per game tick.
-     * @param size      The size of this enemy in field pixels.
-     * @param flying    Whether or not this enemy is flying.
-     */
-    public Enemy(
-        Game game,
-        int value,
-        int weight,
-        int maxHealth,
-        double speed,
-        double size,
-        boolean flying
-    ) {
-        this.game = game;
-        this.value = value;
-        this.weight = weight;
-        maxHealth = (int) (maxHealth * (1 + this.game.waveHandler.getWaveNumber() * 0.05));
-        this.maxHealth = maxHealth;
-        this.speed = speed;
-        this.size = size;
-        this.flying = flying;
-        this.health = maxHealth;
-        this.ticksElapsed = 0;
-        this.done = false;
-        this.drawOffsetLocation = this.createDrawOffsetLocation();
-    }
-
-    private Location createDrawOffsetLocation() {
-        final double maxOffset = 0.5;
-        double x = this.game.fieldRandom.nextDouble() * maxOffset * 2 - maxOffset;
-        double y = this.game.fieldRandom.nextDouble() * maxOffset * 2 - maxOffset;
-        return new Location(x, y);
-    }
-
-    @Override
-    public Location getLocation() throws RuntimeException {
-        final double distanceTraveled = this.traveledDistance();
-        for (Map.Entry<Integer, Double> entry : this.game.field.distancesFromStart.entrySet()) {
-            double upperDistance = entry.getValue();
-            if (upperDistance <= distanceTraveled) {
-                continue;
-            }
-
-            Location upperLocation = this.game.field.path.get(entry.getKey());
-            int index = entry.getKey() - 1;
-            double lowerDistance = this.game.field.distancesFromStart.get(index);
-            Location lowerLocation = this.game.field.path.get(index);
-
-            double remainder = distanceTraveled - lowerDistance;
-            double percentage = remainder / (upperDistance - lowerDistance);
-            
-            double x = lowerLocation.x + (upperLocation.x - lowerLocation.x) * percentage;
-            double y = lowerLocation.y + (upperLocation.y - lowerLocation.y) * percentage;
-            return new Location(x, y);
-        }
-
-        // This should never be reached, but still can due to rounding errors.
-        return this.game.field.path.get(this.game.field.path.size() - 1).copy();
-    }
+    // The state at the moment the enemy was removed, only used once `handle` is -1.
+    private double removedX;
+    private double removedY;
+    private int removedHealth;
 
     /**
-     * Returns the distance this enemy has traveled.
-     * 
-     * @return The distance this enemy has traveled.
+     * Constructs a view, only the store does this.
+     *
+     * @param store  The store the enemy is in.
+     * @param type   The type of the enemy.
+     * @param id     The id of the enemy.
+     * @param handle The current handle of the enemy.
      */
-    public double traveledDistance() {
-        return this.ticksElapsed * this.speed;
+    Enemy(EnemyStore store, EnemyType type, int id, int handle) {
+        this.store = store;
+        this.type = type;
+        this.id = id;
+        this.handle = handle;
     }
 
     /**
-     * Returns the percentage of the field this enemy has traveled.
-     * If this is >= 1.0, this enemy has reached the end of the field.
-     * 
-     * @return         The percentage of the field this enemy has traveled in [0, 1].
+     * Called by the store right before the enemy is removed from it.
      */
-    public double percentageDone() {
-        return this.traveledDistance() / this.game.field.totalDistance;
+    void detach() {
+        this.removedX = this.store.xs[this.handle];
+        this.removedY = this.store.ys[this.handle];
+        this.removedHealth = this.store.health[this.handle];
+        this.handle = -1;
     }
 
     /**
-     * Returns whether or not this enemy has reached the end of the field.
-     * 
-     * @return Whether or not this enemy has reached the end of the field.
+     * Returns the current handle of the enemy.
+     * Only valid until the store removes enemies again.
+     *
+     * @return The handle, or -1 if the enemy has been removed.
      */
-    public boolean isAtEnd() {
-        return this.percentageDone() >= 1.0;
+    public int getHandle() {
+        return this.handle;
     }
 
     /**
-     * Returns the current health of this enemy.
-     * 
-     * @return The current health of this enemy.
+     * Returns whether the enemy has either died or reached the end.
+     * Removed enemies always have.
+     *
+     * @return Whether the enemy is done.
      */
-    public int getHealth() {
-        return this.health;
+    public boolean isDone() {
+        return this.handle == -1 || this.store.done[this.handle];
     }
 
     /**
-     * Returns whether or not this enemy is dead.
-     * 
-     * @return Whether or not this enemy is dead.
+     * Returns whether the enemy is dead.
+     *
+     * @return Whether the enemy is dead.
      */
     public boolean isDead() {
-        return this.health <= 0;
-    }
-
-    /**
-     * Damages this enemy.
-     * 
-     * @param damage The amount of damage to do.
-     */
-    public void doDamage(double damage) {
-        this.health -= damage;
+        return (this.handle == -1 ? this.removedHealth : this.store.health[this.handle]) <= 0;
     }
 
     /**
-     * Returns the image path of this tower.
-     * This can be dependent on the level of this tower.
-     * 
-     * @return The image path of this tower.
-     */
-    public abstract String getImagePath();
-
-    /**
-     * Handles the logic when this enemy is hit.
-     * 
-     * @param damage The amount of damage to do.
+     * Returns the location of the enemy on the field.
+     * A new location is created every call, use `x` and `y` when possible.
+     *
+     * @return The location of the enemy.
      */
-    public void onHit(double damage) {
-        this.doDamage(damage);
-        if (this.isDead()) {
-            this.onDeath();
-        }
+    @Override
+    public Location getLocation() {
+        return new Location(this.x(), this.y());
     }
 
-    /**
-     * Handles the logic when this enemy dies.
-     */
-    public void onDeath() {
-        if (this.done) {
-            return;
-        }
-        this.game.addGold(this.value);
-        this.game.addExp(this.value);
-        this.game.addEnemyKills(1);
-        this.done = true;
+    @Override
+    public double x() {
+        return this.handle == -1 ? this.removedX : this.store.xs[this.handle];
     }
 
-    /**
-     * Handles the logic when this enemy reaches the end of the field.
-     */
-    public void onEndReached() {
-        if (this.done) {
-            return;
-        }
-        this.game.removeLife(
-            Math.max(1, (int) (this.maxHealth * 0.005))
-        );
-        this.done = true;
+    @Override
+    public double y() {
+        return this.handle == -1 ? this.removedY : this.store.ys[this.handle];
     }
 
     /**
-     * Tick this enemy.
+     * Damages the enemy, removed enemies can no longer be damaged.
+     *
+     * @param damage The amount of damage to do.
      */
-    public void tick() {
-        this.ticksElapsed++;
-        if (this.isAtEnd()) {
-            this.onEndReached();
+    public void onHit(double damage) {
+        if (this.handle != -1) {
+            this.store.onHit(this.handle, damage);
         }
     }
-
-    /**
-     * Returns whether or not this enemy is touching a location.
-     * 
-     * @param location The location to check.
-     * @param size     The size of the object on the location to check.
-     * @return         Whether or not this enemy is touching the location.
-     */
-    public boolean isTouching(
-        Location location,
-        double size
-    ) {
-        return this.getLocation().distanceTo(location) < this.size / 2 + size / 2;
-    }
 }
@@ -0,0 +1,406 @@
+package enemies;
+
+import field.PathGeometry;
+import game.Game;
+import java.util.Arrays;
+
+
+/**
+ * Holds the state of the enemies on the field in parallel primitive arrays.
+ * Everything that is shared by an enemy type is looked up by its type id.
+ *
+ * Every enemy that is on the field has a handle, which is its index in these arrays.
+ * The tick, the enemy grid, the progress index and the snapshots only ever use handles.
+ * Removing enemies keeps the rest in the order they were spawned, so handles (and ids)
+ * always increase with the age of an enemy. Handles do change when enemies before
+ * them are removed, `removeFinished` returns how they moved.
+ *
+ * Whatever has to keep referring to an enemy across ticks, like the target of a
+ * projectile, asks for its `Enemy` view, which follows it until it is removed.
+ */
+public class EnemyStore {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Game game;
+
+    int[] ids;  // Unique per enemy, in the order they were spawned.
+    int[] typeIds;
+    int[] ticksElapsed;
+    int[] health;
+    int[] maxHealth;
+    double[] xs;  // Updated every time the enemies move.
+    double[] ys;
+    double[] drawOffsetXs;
+    double[] drawOffsetYs;
+    boolean[] done;
+    private Enemy[] views;  // Only created when asked for, null otherwise.
+    private int size;
+    private int nextId;
+
+    private EnemyType[] types;  // Indexed by type id.
+    private double[] typeSpeeds;  // The speed of each enemy type, indexed by type id.
+    private int[] remap;  // Reused by `removeFinished`.
+
+    /**
+     * Constructs an empty store.
+     *
+     * @param game The game the enemies are in.
+     */
+    public EnemyStore(Game game) {
+        this.game = game;
+        this.ids = new int[INITIAL_CAPACITY];
+        this.typeIds = new int[INITIAL_CAPACITY];
+        this.ticksElapsed = new int[INITIAL_CAPACITY];
+        this.health = new int[INITIAL_CAPACITY];
+        this.maxHealth = new int[INITIAL_CAPACITY];
+        this.xs = new double[INITIAL_CAPACITY];
+        this.ys = new double[INITIAL_CAPACITY];
+        this.drawOffsetXs = new double[INITIAL_CAPACITY];
+        this.drawOffsetYs = new double[INITIAL_CAPACITY];
+        this.done = new boolean[INITIAL_CAPACITY];
+        this.views = new Enemy[INITIAL_CAPACITY];
+        this.size = 0;
+        this.nextId = 0;
+        this.types = new EnemyType[0];
+        this.typeSpeeds = new double[0];
+        this.remap = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Returns the amount of enemies in this store.
+     *
+     * @return The amount of enemies.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Doubles the capacity of all arrays.
+     */
+    private void grow() {
+        int capacity = this.ids.length * 2;
+        this.ids = Arrays.copyOf(this.ids, capacity);
+        this.typeIds = Arrays.copyOf(this.typeIds, capacity);
+        this.ticksElapsed = Arrays.copyOf(this.ticksElapsed, capacity);
+        this.health = Arrays.copyOf(this.health, capacity);
+        this.maxHealth = Arrays.copyOf(this.maxHealth, capacity);
+        this.xs = Arrays.copyOf(this.xs, capacity);
+        this.ys = Arrays.copyOf(this.ys, capacity);
+        this.drawOffsetXs = Arrays.copyOf(this.drawOffsetXs, capacity);
+        this.drawOffsetYs = Arrays.copyOf(this.drawOffsetYs, capacity);
+        this.done = Arrays.copyOf(this.done, capacity);
+        this.views = Arrays.copyOf(this.views, capacity);
+        this.remap = new int[capacity];
+    }
+
+    /**
+     * Remembers the shared stats of a type, so they can be looked up by its id.
+     *
+     * @param type The type.
+     */
+    private void registerType(EnemyType type) {
+        if (type.id >= this.types.length) {
+            this.types = Arrays.copyOf(this.types, type.id + 1);
+            this.typeSpeeds = Arrays.copyOf(this.typeSpeeds, type.id + 1);
+        }
+        this.types[type.id] = type;
+        this.typeSpeeds[type.id] = type.speed;
+    }
+
+    /**
+     * Spawns a new enemy at the start of the path.
+     *
+     * @param type The type of the enemy.
+     * @return     The handle of the new enemy, which is always the last one.
+     */
+    public int spawn(EnemyType type) {
+        if (this.size == this.ids.length) {
+            this.grow();
+        }
+        if (type.id >= this.types.length || this.types[type.id] != type) {
+            this.registerType(type);
+        }
+        final int handle = this.size++;
+        final int maxHealth = type.getMaxHealth(this.game.waveHandler.getWaveNumber());
+        final double maxOffset = 0.5;
+        this.ids[handle] = this.nextId++;
+        this.typeIds[handle] = type.id;
+        this.ticksElapsed[handle] = 0;
+        this.health[handle] = maxHealth;
+        this.maxHealth[handle] = maxHealth;
+        this.xs[handle] = this.game.field.pathGeometry.getX(0.0);
+        this.ys[handle] = this.game.field.pathGeometry.getY(0.0);
+        this.drawOffsetXs[handle] =
+            this.game.cosmeticRandom.nextDouble() * maxOffset * 2 - maxOffset;
+        this.drawOffsetYs[handle] =
+            this.game.cosmeticRandom.nextDouble() * maxOffset * 2 - maxOffset;
+        this.done[handle] = false;
+        this.views[handle] = null;
+        return handle;
+    }
+
+    /**
+     * Returns the view of an enemy, creating it the first time it is asked for.
+     * The view stays valid after the enemy is removed.
+     * Projectiles ask for views while they tick in parallel, hence the lock.
+     *
+     * @param handle The handle of the enemy.
+     * @return       The view.
+     */
+    public synchronized Enemy view(int handle) {
+        Enemy view = this.views[handle];
+        if (view == null) {
+            view = new Enemy(this, this.types[this.typeIds[handle]], this.ids[handle], handle);
+            this.views[handle] = view;
+        }
+        return view;
+    }
+
+    /**
+     * Returns the unique id of an enemy, which never changes.
+     *
+     * @param handle The handle of the enemy.
+     * @return       The id.
+     */
+    public int id(int handle) {
+        return this.ids[handle];
+    }
+
+    /**
+     * Returns the type of an enemy.
+     *
+     * @param handle The handle of the enemy.
+     * @return       The type.
+     */
+    public EnemyType type(int handle) {
+        return this.types[this.typeIds[handle]];
+    }
+
+    /**
+     * Returns the x coordinate of an enemy on the field.
+     *
+     * @param handle The handle of the enemy.
+     * @return       The x coordinate in field pixels.
+     */
+    public double x(int handle) {
+        return this.xs[handle];
+    }
+
+    /**
+     * Returns the y coordinate of an enemy on the field.
+     *
+     * @param handle The handle of the enemy.
+     * @return       The y coordinate in field pixels.
+     */
+    public double y(int handle) {
+        return this.ys[handle];
+    }
+
+    /**
+     * Returns the purely visual x offset of an enemy.
+     *
+     * @param handle The handle of the enemy.
+     * @return       The x offset in field pixels.
+     */
+    public double drawOffsetX(int handle) {
+        return this.drawOffsetXs[handle];
+    }
+
+    /**
+     * Returns the purely visual y offset of an enemy.
+     *
+     * @param handle The handle of the enemy.
+     * @return       The y offset in field pixels.
+     */
+    public double drawOffsetY(int handle) {
+        return this.drawOffsetYs[handle];
+    }
+
+    /**
+     * Returns the current health of an enemy.
+     *
+     * @param handle The handle of the enemy.
+     * @return       The current health.
+     */
+    public int health(int handle) {
+        return this.health[handle];
+    }
+
+    /**
+     * Returns the health an enemy spawned with.
+     *
+     * @param handle The handle of the enemy.
+     * @return       The maximum health.
+     */
+    public int maxHealth(int handle) {
+        return this.maxHealth[handle];
+    }
+
+    /**
+     * Returns whether an enemy is dead.
+     *
+     * @param handle The handle of the enemy.
+     * @return       Whether the enemy is dead.
+     */
+    public boolean isDead(int handle) {
+        return this.health[handle] <= 0;
+    }
+
+    /**
+     * Returns whether an enemy has either died or reached the end.
+     *
+     * @param handle The handle of the enemy.
+     * @return       Whether the enemy is done.
+     */
+    public boolean isDone(int handle) {
+        return this.done[handle];
+    }
+
+    /**
+     * Returns the distance an enemy has traveled.
+     *
+     * @param handle The handle of the enemy.
+     * @return       The distance in field pixels.
+     */
+    public double traveledDistance(int handle) {
+        return this.ticksElapsed[handle] * this.typeSpeeds[this.typeIds[handle]];
+    }
+
+    /**
+     * Returns the percentage of the path an enemy has traveled.
+     * If this is >= 1.0, the enemy has reached the end of the path.
+     *
+     * @param handle The handle of the enemy.
+     * @return       The percentage of the path the enemy has traveled.
+     */
+    public double percentageDone(int handle) {
+        return this.traveledDistance(handle) / this.game.field.totalDistance;
+    }
+
+    /**
+     * Returns whether an enemy is touching a location.
+     *
+     * @param handle   The handle of the enemy.
+     * @param x        The x coordinate of the location.
+     * @param y        The y coordinate of the location.
+     * @param size     The size of the object on the location.
+     * @return         Whether the enemy is touching the location.
+     */
+    public boolean isTouching(int handle, double x, double y, double size) {
+        final double touchingDistance = this.type(handle).size / 2 + size / 2;
+        final double dx = this.xs[handle] - x;
+        final double dy = this.ys[handle] - y;
+        return dx * dx + dy * dy < touchingDistance * touchingDistance;
+    }
+
+    /**
+     * Damages an enemy and handles its death.
+     *
+     * @param handle The handle of the enemy.
+     * @param damage The amount of damage to do.
+     */
+    public void onHit(int handle, double damage) {
+        // Health is whole, so this rounds towards zero like `health -= damage` would.
+        this.health[handle] = (int) (this.health[handle] - damage);
+        if (this.health[handle] <= 0) {
+            this.onDeath(handle);
+        }
+    }
+
+    /**
+     * Handles the logic when an enemy dies.
+     *
+     * @param handle The handle of the enemy.
+     */
+    private void onDeath(int handle) {
+        if (this.done[handle]) {
+            return;
+        }
+        final int value = this.types[this.typeIds[handle]].value;
+        this.game.addGold(value);
+        this.game.addExp(value);
+        this.game.addEnemyKills(1);
+        this.done[handle] = true;
+    }
+
+    /**
+     * Handles the logic when an enemy reaches the end of the path.
+     *
+     * @param handle The handle of the enemy.
+     */
+    private void onEndReached(int handle) {
+        if (this.done[handle]) {
+            return;
+        }
+        this.game.removeLife(
+            Math.max(1, (int) (this.maxHealth[handle] * 0.005))
+        );
+        this.done[handle] = true;
+    }
+
+    /**
+     * Moves every enemy forward by one tick and handles the enemies that reached the end.
+     */
+    public void tick() {
+        final int[] ticksElapsed = this.ticksElapsed;
+        final double totalDistance = this.game.field.totalDistance;
+        final PathGeometry path = this.game.field.pathGeometry;
+        for (int i = 0; i < this.size; i++) {
+            final double distance = ++ticksElapsed[i] * this.typeSpeeds[this.typeIds[i]];
+            this.xs[i] = path.getX(distance);
+            this.ys[i] = path.getY(distance);
+        }
+        for (int i = 0; i < this.size; i++) {
+            double speed = this.typeSpeeds[this.typeIds[i]];
+            if (!this.done[i] && ticksElapsed[i] * speed / totalDistance >= 1.0) {
+                this.onEndReached(i);
+            }
+        }
+    }
+
+    /**
+     * Removes all enemies that are dead or have reached the end.
+     * The enemies that stay are moved together in a single pass, keeping their order.
+     * The views of removed enemies take their final state with them.
+     *
+     * @return The new handle of every old handle, -1 for removed enemies,
+     *         or null if nothing was removed. Only valid until the next call.
+     */
+    public int[] removeFinished() {
+        final int size = this.size;
+        final int[] remap = this.remap;
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (this.isDead(i) || this.percentageDone(i) >= 1.0) {
+                remap[i] = -1;
+                if (this.views[i] != null) {
+                    this.views[i].detach();
+                    this.views[i] = null;
+                }
+                continue;
+            }
+            remap[i] = kept;
+            if (kept != i) {
+                this.ids[kept] = this.ids[i];
+                this.typeIds[kept] = this.typeIds[i];
+                this.ticksElapsed[kept] = this.ticksElapsed[i];
+                this.health[kept] = this.health[i];
+                this.maxHealth[kept] = this.maxHealth[i];
+                this.xs[kept] = this.xs[i];
+                this.ys[kept] = this.ys[i];
+                this.drawOffsetXs[kept] = this.drawOffsetXs[i];
+                this.drawOffsetYs[kept] = this.drawOffsetYs[i];
+                this.done[kept] = this.done[i];
+                this.views[kept] = this.views[i];
+                this.views[i] = null;
+                if (this.views[kept] != null) {
+                    this.views[kept].handle = kept;
+                }
+            }
+            kept++;
+        }
+        this.size = kept;
+        return kept == size ? null : remap;
+    }
+}
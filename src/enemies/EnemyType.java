@@ -0,0 +1,67 @@
+package enemies;
+
+
+/**
+ * The stats that are shared by all enemies of the same kind.
+ * There is exactly one instance per kind of enemy, so the store
+ * only has to hold the state of each enemy and its type id.
+ */
+public final class EnemyType {
+    public final int id;  // Fixed per kind, so state can be indexed by it.
+    public final int value;
+    public final int weight;
+    public final int maxHealth;
+    public final double speed;
+    public final double size;
+    public final boolean flying;
+    public final String imagePath;
+
+    /**
+     * Constructs a new type of enemy.
+     * 
+     * @param id        The id of this type, small and unique per kind of enemy.
+     * @param value     The value of this enemy. This is used to calculate
+     *                  the wave size and the gold reward on death.
+     * @param weight    The weight of this enemy. This is used to determine
+     *                  how often this enemy should appear in a wave.
+     * @param maxHealth The maximum health of this enemy in the first wave.
+     * @param speed     The speed of this enemy in field pixels per game tick.
+     * @param size      The size of this enemy in field pixels.
+     * @param flying    Whether or not this enemy is flying.
+     * @param imagePath The image path of this enemy.
+     * @throws IllegalArgumentException If the id is negative.
+     */
+    public EnemyType(
+        int id,
+        int value,
+        int weight,
+        int maxHealth,
+        double speed,
+        double size,
+        boolean flying,
+        String imagePath
+    ) throws IllegalArgumentException {
+        if (id < 0) {
+            throw new IllegalArgumentException("The id of an enemy type cannot be negative.");
+        }
+        this.id = id;
+        this.value = value;
+        this.weight = weight;
+        this.maxHealth = maxHealth;
+        this.speed = speed;
+        this.size = size;
+        this.flying = flying;
+        this.imagePath = imagePath;
+    }
+
+    /**
+     * Returns the maximum health of this enemy in a wave.
+     * Enemies get a bit stronger every wave.
+     * 
+     * @param waveNumber The wave number.
+     * @return           The maximum health.
+     */
+    public int getMaxHealth(int waveNumber) {
+        return (int) (this.maxHealth * (1 + waveNumber * 0.05));
+    }
+}
@@ -0,0 +1,116 @@
+package enemies;
+
+import java.util.Arrays;
+
+
+/**
+ * A growable list of enemy handles (or ids), kept as plain ints so nothing is boxed.
+ * Meant to be reused, `clear` keeps the capacity.
+ */
+public final class HandleList {
+    private static final int INITIAL_CAPACITY = 8;
+
+    private int[] handles;
+    private int size;
+
+    /**
+     * Constructs an empty list.
+     */
+    public HandleList() {
+        this.handles = new int[INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    /**
+     * Returns the amount of handles in this list.
+     *
+     * @return The amount of handles.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns whether this list is empty.
+     *
+     * @return Whether this list is empty.
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Returns the handle at an index.
+     *
+     * @param index The index, which has to be smaller than `size`.
+     * @return      The handle.
+     */
+    public int get(int index) {
+        return this.handles[index];
+    }
+
+    /**
+     * Adds a handle to the end of this list.
+     *
+     * @param handle The handle to add.
+     */
+    public void add(int handle) {
+        if (this.size == this.handles.length) {
+            this.handles = Arrays.copyOf(this.handles, this.size * 2);
+        }
+        this.handles[this.size++] = handle;
+    }
+
+    /**
+     * Adds all handles of another list to the end of this list.
+     *
+     * @param other The list to add.
+     */
+    public void addAll(HandleList other) {
+        final int size = this.size + other.size;
+        if (size > this.handles.length) {
+            this.handles = Arrays.copyOf(this.handles, Math.max(size, this.handles.length * 2));
+        }
+        System.arraycopy(other.handles, 0, this.handles, this.size, other.size);
+        this.size = size;
+    }
+
+    /**
+     * Returns whether this list holds a handle.
+     *
+     * @param handle The handle to look for.
+     * @return       Whether the handle is in this list.
+     */
+    public boolean contains(int handle) {
+        for (int i = 0; i < this.size; i++) {
+            if (this.handles[i] == handle) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes all handles, keeping the capacity.
+     */
+    public void clear() {
+        this.size = 0;
+    }
+
+    /**
+     * Replaces every handle by its new handle after the store removed enemies.
+     * Handles of removed enemies are dropped, the rest keep their order.
+     *
+     * @param remap The new handle of every old handle, -1 for removed enemies.
+     */
+    public void remap(int[] remap) {
+        int kept = 0;
+        for (int i = 0; i < this.size; i++) {
+            int handle = remap[this.handles[i]];
+            if (handle != -1) {
+                this.handles[kept++] = handle;
+            }
+        }
+        this.size = kept;
+    }
+}
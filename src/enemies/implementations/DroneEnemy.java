@@ -1,39 +1,34 @@
 package enemies.implementations;
 
-import enemies.Enemy;
-import game.Game;
+import enemies.EnemyType;
 
 
 /**
  * A drone enemy.
+ * Only holds the type, the enemies themselves live in the store.
  */
-public class DroneEnemy extends Enemy {
+public final class DroneEnemy {
+    public static final int ID = 1;
     private static final int VALUE = 20;
     private static final int WEIGHT = 1;
     private static final int MAX_HEALTH = 100;
     private static final double SPEED = 0.15;
     private static final double SIZE = 3.0;
     private static final boolean FLYING = true;
+    private static final String IMAGE_PATH = "./assets/enemies/drone_enemy.png";
 
-    /**
-     * Constructs a drone enemy.
-     * 
-     * @param game The game this enemy is in.
-     */
-    public DroneEnemy(Game game) {
-        super(
-            game,
-            VALUE,
-            WEIGHT,
-            MAX_HEALTH,
-            SPEED,
-            SIZE,
-            FLYING
-        );
-    }
+    public static final EnemyType TYPE = new EnemyType(
+        ID,
+        VALUE,
+        WEIGHT,
+        MAX_HEALTH,
+        SPEED,
+        SIZE,
+        FLYING,
+        IMAGE_PATH
+    );
 
-    @Override
-    public String getImagePath() {
-        return "./assets/enemies/drone_enemy.png";
+    private DroneEnemy() {
+        // Only holds the type.
     }
 }
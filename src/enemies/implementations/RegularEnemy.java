@@ -1,39 +1,34 @@
 package enemies.implementations;
 
-import enemies.Enemy;
-import game.Game;
+import enemies.EnemyType;
 
 
 /**
  * A regular enemy.
+ * Only holds the type, the enemies themselves live in the store.
  */
-public class RegularEnemy extends Enemy {
+public final class RegularEnemy {
+    public static final int ID = 0;
     private static final int VALUE = 20;
     private static final int WEIGHT = 1;
     private static final int MAX_HEALTH = 200;
     private static final double SPEED = 0.05;
     private static final double SIZE = 3.5;
     private static final boolean FLYING = false;
+    private static final String IMAGE_PATH = "./assets/enemies/regular_enemy.png";
 
-    /**
-     * Constructs a regular enemy.
-     * 
-     * @param game The game this enemy is in.
-     */
-    public RegularEnemy(Game game) {
-        super(
-            game,
-            VALUE,
-            WEIGHT,
-            MAX_HEALTH,
-            SPEED,
-            SIZE,
-            FLYING
-        );
-    }
+    public static final EnemyType TYPE = new EnemyType(
+        ID,
+        VALUE,
+        WEIGHT,
+        MAX_HEALTH,
+        SPEED,
+        SIZE,
+        FLYING,
+        IMAGE_PATH
+    );
 
-    @Override
-    public String getImagePath() {
-        return "./assets/enemies/regular_enemy.png";
+    private RegularEnemy() {
+        // Only holds the type.
     }
 }
@@ -1,39 +1,34 @@
 package enemies.implementations;
 
-import enemies.Enemy;
-import game.Game;
+import enemies.EnemyType;
 
 
 /**
  * A tank enemy.
+ * Only holds the type, the enemies themselves live in the store.
  */
-public class TankEnemy extends Enemy {
+public final class TankEnemy {
+    public static final int ID = 2;
     private static final int VALUE = 100;
     private static final int WEIGHT = 3;
     private static final int MAX_HEALTH = 800;
     private static final double SPEED = 0.02;
     private static final double SIZE = 4.5;
     private static final boolean FLYING = false;
+    private static final String IMAGE_PATH = "./assets/enemies/tank_enemy.png";
 
-    /**
-     * Constructs a tank enemy.
-     * 
-     * @param game The game this enemy is in.
-     */
-    public TankEnemy(Game game) {
-        super(
-            game,
-            VALUE,
-            WEIGHT,
-            MAX_HEALTH,
-            SPEED,
-            SIZE,
-            FLYING
-        );
-    }
+    public static final EnemyType TYPE = new EnemyType(
+        ID,
+        VALUE,
+        WEIGHT,
+        MAX_HEALTH,
+        SPEED,
+        SIZE,
+        FLYING,
+        IMAGE_PATH
+    );
 
-    @Override
-    public String getImagePath() {
-        return "./assets/enemies/tank_enemy.png";
+    private TankEnemy() {
+        // Only holds the type.
     }
 }
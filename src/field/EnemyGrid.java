@@ -0,0 +1,161 @@
+package field;
+
+import enemies.EnemyStore;
+import enemies.HandleList;
+import location.Location;
+
+
+/**
+ * A uniform grid over the field that buckets the enemies by their location.
+ * This makes it possible to find the enemies near a location without
+ * checking every enemy on the field.
+ *
+ * The cells hold the handles of the enemies in the store.
+ * The grid has to be rebuilt whenever the enemies have moved,
+ * in between it is kept up to date by `add` and `remap`.
+ */
+public class EnemyGrid {
+    public static final double CELL_SIZE = 5.0;
+
+    private final EnemyStore store;
+    private final int columns;
+    private final int rows;
+    private final HandleList[] cells;
+    private double maxEnemySize;
+
+    /**
+     * Constructs an empty grid.
+     *
+     * @param width  The width of the field in field pixels.
+     * @param height The height of the field in field pixels.
+     * @param store  The store the handles refer to.
+     */
+    public EnemyGrid(int width, int height, EnemyStore store) {
+        this.store = store;
+        this.columns = (int) Math.ceil(width / CELL_SIZE);
+        this.rows = (int) Math.ceil(height / CELL_SIZE);
+        this.cells = new HandleList[this.columns * this.rows];
+        for (int i = 0; i < this.cells.length; i++) {
+            this.cells[i] = new HandleList();
+        }
+        this.maxEnemySize = 0.0;
+    }
+
+    private int column(double x) {
+        return Math.max(0, Math.min(this.columns - 1, (int) Math.floor(x / CELL_SIZE)));
+    }
+
+    private int row(double y) {
+        return Math.max(0, Math.min(this.rows - 1, (int) Math.floor(y / CELL_SIZE)));
+    }
+
+    /**
+     * Rebuilds the grid from scratch with every enemy in the store.
+     */
+    public void rebuild() {
+        for (HandleList cell : this.cells) {
+            cell.clear();
+        }
+        this.maxEnemySize = 0.0;
+        for (int handle = 0; handle < this.store.size(); handle++) {
+            this.add(handle);
+        }
+    }
+
+    /**
+     * Adds an enemy to the grid at its current location.
+     *
+     * @param handle The handle of the enemy to add.
+     */
+    public void add(int handle) {
+        final int column = this.column(this.store.x(handle));
+        final int row = this.row(this.store.y(handle));
+        this.cells[row * this.columns + column].add(handle);
+        this.maxEnemySize = Math.max(this.maxEnemySize, this.store.type(handle).size);
+    }
+
+    /**
+     * Follows the handles after the store removed enemies.
+     * Each cell is compacted in a single pass, keeping the order of its enemies.
+     *
+     * @param remap The new handle of every old handle, -1 for removed enemies.
+     */
+    public void remap(int[] remap) {
+        for (HandleList cell : this.cells) {
+            cell.remap(remap);
+        }
+    }
+
+    /**
+     * Returns the size of the biggest enemy in the grid.
+     * Useful to pad a query when the size of the enemies matters.
+     *
+     * @return The size of the biggest enemy in field pixels.
+     */
+    public double getMaxEnemySize() {
+        return this.maxEnemySize;
+    }
+
+    /**
+     * Adds all enemies in the cells that overlap a square around a location.
+     * This is a superset of the enemies in range, so the caller
+     * still has to check the actual distance.
+     *
+     * @param center     The middle of the square.
+     * @param radius     Half of the width of the square.
+     * @param candidates The list to add the handles to.
+     */
+    public void addCandidates(Location center, double radius, HandleList candidates) {
+        final int minColumn = this.column(center.x - radius);
+        final int maxColumn = this.column(center.x + radius);
+        final int minRow = this.row(center.y - radius);
+        final int maxRow = this.row(center.y + radius);
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                candidates.addAll(this.cells[row * this.columns + column]);
+            }
+        }
+    }
+
+    /**
+     * Returns the closest enemy to a location within a maximum distance.
+     *
+     * @param x           The x coordinate to measure from.
+     * @param y           The y coordinate to measure from.
+     * @param maxDistance The maximum distance (exclusive).
+     * @param excluded    The handles of enemies that should be skipped.
+     * @return            The handle of the closest enemy, or -1 if there is none.
+     */
+    public int closestEnemy(double x, double y, double maxDistance, HandleList excluded) {
+        int closestEnemy = -1;
+        double closestDistanceSquared = Double.MAX_VALUE;
+        final double maxDistanceSquared = maxDistance * maxDistance;
+
+        final int minColumn = this.column(x - maxDistance);
+        final int maxColumn = this.column(x + maxDistance);
+        final int minRow = this.row(y - maxDistance);
+        final int maxRow = this.row(y + maxDistance);
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                HandleList cell = this.cells[row * this.columns + column];
+                for (int i = 0; i < cell.size(); i++) {
+                    int handle = cell.get(i);
+                    if (excluded.contains(handle)) {
+                        continue;
+                    }
+                    final double dx = this.store.x(handle) - x;
+                    final double dy = this.store.y(handle) - y;
+                    double distanceSquared = dx * dx + dy * dy;
+                    if (distanceSquared >= maxDistanceSquared) {
+                        continue;
+                    }
+                    if (distanceSquared < closestDistanceSquared) {
+                        closestEnemy = handle;
+                        closestDistanceSquared = distanceSquared;
+                    }
+                }
+            }
+        }
+        return closestEnemy;
+    }
+}
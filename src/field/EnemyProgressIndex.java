@@ -0,0 +1,268 @@
+package field;
+
+import enemies.EnemyStore;
+import enemies.EnemyType;
+import enemies.HandleList;
+import java.util.ArrayList;
+
+
+/**
+ * Keeps the enemies ordered by how far they have traveled.
+ *
+ * Enemies with the same speed can never overtake each other, so they are kept
+ * in a lane per enemy type in the order they were spawned. The front of a lane is
+ * always the enemy that has traveled the furthest. Only when enemies of
+ * different lanes are compared, the actual traveled distance is needed.
+ * The lanes hold the handles of the enemies in the store.
+ */
+public class EnemyProgressIndex {
+    /**
+     * A lane of enemies of the same type, ordered from most to least progress.
+     */
+    private static class Lane {
+        private final EnemyStore store;
+        private final EnemyType type;
+        private final HandleList enemies = new HandleList();
+
+        private Lane(EnemyStore store, EnemyType type) {
+            this.store = store;
+            this.type = type;
+        }
+
+        /**
+         * Returns the distance the enemy at an index has traveled.
+         *
+         * @param index The index in this lane.
+         * @return      The traveled distance.
+         */
+        private double traveledDistance(int index) {
+            return this.store.traveledDistance(this.enemies.get(index));
+        }
+
+        /**
+         * Returns the index of the first enemy that has traveled at most a distance.
+         *
+         * @param distance The distance.
+         * @return         The index, or the size of this lane if there is none.
+         */
+        private int firstAtMost(double distance) {
+            int low = 0;
+            int high = this.enemies.size();
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (this.traveledDistance(middle) > distance) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * Returns the part of the path an enemy can be targeted on.
+     * All enemies in a lane share the same answer.
+     */
+    public interface CoverageProvider {
+        /**
+         * Returns the coverage for an enemy type.
+         *
+         * @param type The type of the enemies.
+         * @return     The coverage, or null if the enemies can never be targeted.
+         */
+        PathCoverage getCoverage(EnemyType type);
+    }
+
+    private final EnemyStore store;
+    private final ArrayList<Lane> lanes = new ArrayList<>();
+    private int[] mergeIndices = new int[0];  // Reused by `writeOrdered`.
+
+    /**
+     * Constructs an empty index.
+     *
+     * @param store The store the handles refer to.
+     */
+    public EnemyProgressIndex(EnemyStore store) {
+        this.store = store;
+    }
+
+    /**
+     * Returns the lane of a type, creating it when it does not exist yet.
+     *
+     * @param type The type.
+     * @return     The lane.
+     */
+    private Lane getLane(EnemyType type) {
+        for (Lane lane : this.lanes) {
+            if (lane.type == type) {
+                return lane;
+            }
+        }
+        Lane lane = new Lane(this.store, type);
+        this.lanes.add(lane);
+        return lane;
+    }
+
+    /**
+     * Adds a newly spawned enemy, which is always at the back of its lane.
+     *
+     * @param handle The handle of the enemy to add.
+     */
+    public void add(int handle) {
+        this.getLane(this.store.type(handle)).enemies.add(handle);
+    }
+
+    /**
+     * Follows the handles after the store removed enemies.
+     * The store keeps the order of the enemies, so the lanes stay ordered.
+     *
+     * @param remap The new handle of every old handle, -1 for removed enemies.
+     */
+    public void remap(int[] remap) {
+        for (int l = 0; l < this.lanes.size(); l++) {
+            this.lanes.get(l).enemies.remap(remap);
+        }
+    }
+
+    /**
+     * Returns the enemy that has traveled the furthest while inside its coverage.
+     * Every interval of the coverage is a binary search in each lane.
+     *
+     * @param provider The coverage of each lane.
+     * @return         The handle of the enemy, or -1 if no enemy is covered.
+     */
+    public int first(CoverageProvider provider) {
+        int best = -1;
+        double bestDistance = 0.0;
+        for (int l = 0; l < this.lanes.size(); l++) {  // No iterator, this runs for every tower.
+            Lane lane = this.lanes.get(l);
+            if (lane.enemies.isEmpty()) {
+                continue;
+            }
+            PathCoverage coverage = provider.getCoverage(lane.type);
+            if (coverage == null) {
+                continue;
+            }
+            for (int i = coverage.size() - 1; i >= 0; i--) {
+                int index = lane.firstAtMost(coverage.getEnd(i));
+                if (index >= lane.enemies.size()) {
+                    continue;
+                }
+                double distance = lane.traveledDistance(index);
+                if (distance < coverage.getStart(i)) {
+                    continue;
+                }
+                if (best == -1 || distance > bestDistance) {
+                    best = lane.enemies.get(index);
+                    bestDistance = distance;
+                }
+                break;  // Earlier intervals only hold enemies behind this one.
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns the enemy that has traveled the least while inside its coverage.
+     * Every interval of the coverage is a binary search in each lane.
+     *
+     * @param provider The coverage of each lane.
+     * @return         The handle of the enemy, or -1 if no enemy is covered.
+     */
+    public int last(CoverageProvider provider) {
+        int best = -1;
+        double bestDistance = 0.0;
+        for (int l = 0; l < this.lanes.size(); l++) {
+            Lane lane = this.lanes.get(l);
+            if (lane.enemies.isEmpty()) {
+                continue;
+            }
+            PathCoverage coverage = provider.getCoverage(lane.type);
+            if (coverage == null) {
+                continue;
+            }
+            for (int i = 0; i < coverage.size(); i++) {
+                // The last enemy that has traveled at least the start of the interval.
+                int index = lane.firstAtMost(Math.nextDown(coverage.getStart(i))) - 1;
+                if (index < 0) {
+                    continue;
+                }
+                double distance = lane.traveledDistance(index);
+                if (distance > coverage.getEnd(i)) {
+                    continue;
+                }
+                if (best == -1 || distance < bestDistance) {
+                    best = lane.enemies.get(index);
+                    bestDistance = distance;
+                }
+                break;  // Later intervals only hold enemies ahead of this one.
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Adds all enemies that are inside their coverage to a list.
+     *
+     * @param provider The coverage of each lane.
+     * @param enemies  The list to add the handles to.
+     */
+    public void addCovered(CoverageProvider provider, HandleList enemies) {
+        for (int l = 0; l < this.lanes.size(); l++) {
+            Lane lane = this.lanes.get(l);
+            if (lane.enemies.isEmpty()) {
+                continue;
+            }
+            PathCoverage coverage = provider.getCoverage(lane.type);
+            if (coverage == null) {
+                continue;
+            }
+            for (int i = coverage.size() - 1; i >= 0; i--) {
+                int index = lane.firstAtMost(coverage.getEnd(i));
+                while (index < lane.enemies.size()
+                    && lane.traveledDistance(index) >= coverage.getStart(i)
+                ) {
+                    enemies.add(lane.enemies.get(index));
+                    index++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes all enemies into a list, ordered from least to most traveled.
+     * The lanes are already ordered, so they only have to be merged.
+     *
+     * @param enemies The list to overwrite with the handles.
+     */
+    public void writeOrdered(HandleList enemies) {
+        enemies.clear();
+        if (this.mergeIndices.length != this.lanes.size()) {
+            this.mergeIndices = new int[this.lanes.size()];
+        }
+        final int[] indices = this.mergeIndices;
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = this.lanes.get(i).enemies.size() - 1;
+        }
+        while (true) {
+            int bestLane = -1;
+            double bestDistance = Double.MAX_VALUE;
+            for (int i = 0; i < indices.length; i++) {
+                if (indices[i] < 0) {
+                    continue;
+                }
+                double distance = this.lanes.get(i).traveledDistance(indices[i]);
+                if (distance < bestDistance) {
+                    bestLane = i;
+                    bestDistance = distance;
+                }
+            }
+            if (bestLane == -1) {
+                return;
+            }
+            enemies.add(this.lanes.get(bestLane).enemies.get(indices[bestLane]));
+            indices[bestLane]--;
+        }
+    }
+}
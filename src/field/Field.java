@@ -1,13 +1,23 @@
 package field;
 
-import enemies.Enemy;
+import enemies.EnemyStore;
+import enemies.EnemyType;
 import game.Game;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.util.IdentityHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import location.Location;
 import towers.Tower;
+import towers.implementations.ArcherTower;
+import towers.implementations.BombTower;
+import towers.implementations.LaserTower;
+import towers.implementations.SlingshotTower;
+import towers.implementations.WizardTower;
+import towers.projectile.ImageProjectile;
+import towers.projectile.LineProjectile;
 import towers.projectile.Projectile;
+import towers.projectile.ProjectilePool;
 
 
 /**
@@ -19,16 +29,49 @@ public class Field {
     public final int width = 80;  // The width of the field in (field) pixels.
     public final int height = 45;  // The height of the field in (field) pixels.
 
+    // The width and height of the square around a placeable location that can be clicked on.
+    public static final int SLOT_SIZE = 4;
+    // The width and height of the speed button in the bottom right of the field.
+    public static final double SPEED_BUTTON_SIZE = 3.0;
+    private static final double SPEED_BUTTON_MARGIN = 0.5;
+    // The middle of the speed button.
+    public final Location speedButtonLocation = new Location(
+        this.width - SPEED_BUTTON_MARGIN - SPEED_BUTTON_SIZE / 2,
+        this.height - SPEED_BUTTON_MARGIN - SPEED_BUTTON_SIZE / 2
+    );
+
     public ArrayList<Location> waypoints;
     public ArrayList<Location> path;
     public ArrayList<Location> placeable;
     public double totalDistance;
-    // Mapping from the index of a point in the path to the distance from the start.
-    public LinkedHashMap<Integer, Double> distancesFromStart;
-
-    public HashMap<Location, Tower> towers;
-    public ArrayList<Enemy> enemies;
-    public ArrayList<Projectile> projectiles;
+    // The path resampled at a uniform arc-length, `path` holds the same points.
+    public PathGeometry pathGeometry;
+
+    // The covered parts of the path per placeable location, one for each radius asked for.
+    // Towers ask for these in parallel, so both the map and the lists are concurrent.
+    private ConcurrentHashMap<Location, CopyOnWriteArrayList<PathCoverage>> coverages;
+
+    // The tower on every placeable location, indexed by the slot of the location.
+    // A slot is the index of the location in `placeable`, null when there is no tower.
+    public Tower[] towers;
+    private IdentityHashMap<Location, Integer> slots;  // The slot of each placeable location.
+    // The same towers split by type, each list ordered by slot. A loop over one
+    // of these only ever sees a single class, so the JIT can inline its methods.
+    public ArrayList<ArcherTower> archerTowers;
+    public ArrayList<BombTower> bombTowers;
+    public ArrayList<LaserTower> laserTowers;
+    public ArrayList<SlingshotTower> slingshotTowers;
+    public ArrayList<WizardTower> wizardTowers;
+    public EnemyStore enemyStore;  // Holds every enemy on the field, the rest uses its handles.
+    public EnemyGrid enemyGrid;  // Holds the same enemies, bucketed by location.
+    public EnemyProgressIndex progressIndex;  // Holds the same enemies, ordered by progress.
+    // The projectiles split by type for the same reason as the towers.
+    public ArrayList<ImageProjectile> imageProjectiles;
+    public ArrayList<LineProjectile> lineProjectiles;
+    // Removed projectiles wait here until they are fired again.
+    public ProjectilePool<ImageProjectile> imageProjectilePool;
+    public ProjectilePool<LineProjectile> lineProjectilePool;
+    private int nextProjectileId = 0;  // Not reset by `init`, so ids are never reused.
 
     /**
      * Constructs a new field.
@@ -41,11 +84,17 @@ public class Field {
      * Initializes the field.
      */
     public void init() {
-        this.towers = new HashMap<>();
-        this.enemies = new ArrayList<>();
-        this.projectiles = new ArrayList<>();
+        this.enemyStore = new EnemyStore(this.game);
+        this.enemyGrid = new EnemyGrid(this.width, this.height, this.enemyStore);
+        this.progressIndex = new EnemyProgressIndex(this.enemyStore);
+        this.imageProjectiles = new ArrayList<>();
+        this.lineProjectiles = new ArrayList<>();
+        this.imageProjectilePool = new ProjectilePool<>(() -> new ImageProjectile(this.game));
+        this.lineProjectilePool = new ProjectilePool<>(() -> new LineProjectile(this.game));
         this.createPath();
         this.createPlaceable();
+        this.createSlots();
+        this.coverages = new ConcurrentHashMap<>();
     }
 
     /**
@@ -129,16 +178,9 @@ public class Field {
             retries++;
         } while (this.path == null);
 
-        this.totalDistance = 0.0;
-        this.distancesFromStart = new LinkedHashMap<>();
-        for (int i = 0; i < this.path.size() - 1; i++) {
-            Location location1 = this.path.get(i);
-            Location location2 = this.path.get(i + 1);
-            double distance = location1.distanceTo(location2);
-            this.distancesFromStart.put(i, this.totalDistance);
-            this.totalDistance += distance;
-        }
-        this.distancesFromStart.put(this.path.size() - 1, this.totalDistance);
+        this.pathGeometry = new PathGeometry(this.path);
+        this.path = this.pathGeometry.toLocations();
+        this.totalDistance = this.pathGeometry.totalDistance;
     }
 
     /**
@@ -163,6 +205,47 @@ public class Field {
         }
     }
 
+    /**
+     * Gives every placeable location a slot and empties all slots.
+     */
+    private void createSlots() {
+        this.towers = new Tower[this.placeable.size()];
+        this.archerTowers = new ArrayList<>();
+        this.bombTowers = new ArrayList<>();
+        this.laserTowers = new ArrayList<>();
+        this.slingshotTowers = new ArrayList<>();
+        this.wizardTowers = new ArrayList<>();
+        this.slots = new IdentityHashMap<>();
+        for (int slot = 0; slot < this.placeable.size(); slot++) {
+            this.slots.put(this.placeable.get(slot), slot);
+        }
+    }
+
+    /**
+     * Returns the slot of a placeable location.
+     * 
+     * @param location The location, which has to be one of the placeable locations itself.
+     * @return         The slot, or -1 if the location is not placeable.
+     */
+    public int getSlot(Location location) {
+        if (location == null) {
+            return -1;
+        }
+        Integer slot = this.slots.get(location);
+        return slot == null ? -1 : slot;
+    }
+
+    /**
+     * Returns the tower on a location.
+     * 
+     * @param location The location.
+     * @return         The tower, or null if there is no tower on the location.
+     */
+    public Tower getTower(Location location) {
+        int slot = this.getSlot(location);
+        return slot == -1 ? null : this.towers[slot];
+    }
+
     /**
      * Checks if the latest points of the path have a valid angle.
      * 
@@ -291,6 +374,31 @@ public class Field {
         return true;
     }
 
+    /**
+     * Returns which parts of the path are within a radius of a location.
+     * The path and the locations never change, so this is only computed
+     * once per location and radius.
+     * 
+     * @param location The location, most likely the location of a tower.
+     * @param radius   The radius (inclusive).
+     * @return         The covered parts of the path.
+     */
+    public PathCoverage getCoverage(Location location, double radius) {
+        CopyOnWriteArrayList<PathCoverage> known = this.coverages.computeIfAbsent(
+            location, key -> new CopyOnWriteArrayList<>()
+        );
+        for (int i = 0; i < known.size(); i++) {  // No iterator, this runs for every tower.
+            PathCoverage coverage = known.get(i);
+            if (coverage.radius == radius) {
+                return coverage;
+            }
+        }
+        // Two threads could both compute it, but then they compute the same coverage.
+        PathCoverage coverage = this.pathGeometry.coverage(location, radius);
+        known.add(coverage);
+        return coverage;
+    }
+
     /**
      * Adds a tower to the field.
      * 
@@ -298,14 +406,64 @@ public class Field {
      * @throws IllegalArgumentException If the tower is not placeable.
      */
     public void addTower(Tower tower) throws IllegalArgumentException {
-        Location location = tower.getLocation();
-        if (!this.placeable.contains(location)) {
+        int slot = this.getSlot(tower.getLocation());
+        if (slot == -1) {
             throw new IllegalArgumentException("Tower is not placeable at this location.");
         }
-        if (this.towers.containsKey(location)) {
+        if (this.towers[slot] != null) {
             throw new IllegalArgumentException("Tower already exists at this location.");
         }
-        this.towers.put(location, tower);
+        this.towers[slot] = tower;
+        this.insertBySlot(this.getTowersOfType(tower), tower, slot);
+    }
+
+    /**
+     * Returns the list that holds the towers of the same type as a tower.
+     * 
+     * @param tower                     The tower.
+     * @return                          The list of its type.
+     * @throws IllegalArgumentException If the type of the tower is unknown.
+     */
+    private ArrayList<? extends Tower> getTowersOfType(Tower tower)
+        throws IllegalArgumentException {
+        if (tower instanceof ArcherTower) {
+            return this.archerTowers;
+        }
+        if (tower instanceof BombTower) {
+            return this.bombTowers;
+        }
+        if (tower instanceof LaserTower) {
+            return this.laserTowers;
+        }
+        if (tower instanceof SlingshotTower) {
+            return this.slingshotTowers;
+        }
+        if (tower instanceof WizardTower) {
+            return this.wizardTowers;
+        }
+        throw new IllegalArgumentException("Unknown tower type.");
+    }
+
+    /**
+     * Inserts a tower into the list of its type, keeping the list ordered by slot.
+     * 
+     * @param towers The list of the type of the tower.
+     * @param tower  The tower.
+     * @param slot   The slot of the tower.
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends Tower> void insertBySlot(ArrayList<T> towers, Tower tower, int slot) {
+        int low = 0;
+        int high = towers.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (this.getSlot(towers.get(middle).getLocation()) < slot) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        towers.add(low, (T) tower);  // The list was picked by the type of the tower.
     }
 
     /**
@@ -315,45 +473,119 @@ public class Field {
      * @throws IllegalArgumentException If the tower does not exist.
      */
     public void removeTower(Tower tower) throws IllegalArgumentException {
-        boolean removed = this.towers.remove(tower.getLocation(), tower);
-        if (!removed) {
+        int slot = this.getSlot(tower.getLocation());
+        if (slot == -1 || this.towers[slot] != tower) {
             throw new IllegalArgumentException("Tower does not exist at this location.");
         }
+        this.towers[slot] = null;
+        this.getTowersOfType(tower).remove(tower);
     }
 
     /**
-     * Adds an enemy to the beginning of the field.
+     * Adds a projectile to the list of its type.
      * 
-     * @param enemy The enemy to add.
+     * @param projectile                The projectile to add.
+     * @throws IllegalArgumentException If the type of the projectile is unknown.
      */
-    public void addEnemy(Enemy enemy) {
-        this.enemies.add(enemy);
+    public void addProjectile(Projectile projectile) throws IllegalArgumentException {
+        if (projectile instanceof ImageProjectile) {
+            this.imageProjectiles.add((ImageProjectile) projectile);
+        } else if (projectile instanceof LineProjectile) {
+            this.lineProjectiles.add((LineProjectile) projectile);
+        } else {
+            throw new IllegalArgumentException("Unknown projectile type.");
+        }
     }
 
     /**
-     * Sorts the enemies by percentage done.
+     * Applies the hits of all projectiles and removes the ones that are finished.
+     * Has to be called after all projectiles have ticked.
      */
-    public void sortEnemies() {
-        this.sortEnemies(this.enemies);
+    public void applyProjectileHits() {
+        applyHits(this.imageProjectiles, this.imageProjectilePool);
+        applyHits(this.lineProjectiles, this.lineProjectilePool);
     }
 
     /**
-     * Sorts the enemies by percentage done from low to high.
+     * Applies the hits of the projectiles of a type in order. The finished ones are
+     * handed back to their pool and the rest are moved together in the same pass.
      * 
-     * @param enemies The enemies to sort.
+     * @param projectiles The projectiles of the type.
+     * @param pool        The pool of the type.
      */
-    public void sortEnemies(ArrayList<Enemy> enemies) {
-        enemies.sort((enemy1, enemy2) -> {
-            double percentage1 = enemy1.percentageDone();
-            double percentage2 = enemy2.percentageDone();
-            if (percentage1 < percentage2) {
-                return -1;
-            } else if (percentage1 > percentage2) {
-                return 1;
+    private static <T extends Projectile> void applyHits(
+        ArrayList<T> projectiles,
+        ProjectilePool<T> pool
+    ) {
+        final int size = projectiles.size();
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            T projectile = projectiles.get(i);
+            if (projectile.applyHits()) {
+                pool.release(projectile);
             } else {
-                return 0;
+                projectiles.set(kept++, projectile);
             }
-        });
+        }
+        for (int i = size - 1; i >= kept; i--) {
+            projectiles.remove(i);  // Removing from the end does not move anything.
+        }
+    }
+
+    /**
+     * Returns a new id for a projectile that is fired.
+     * Projectiles are added to the end of their list and keep their order,
+     * so the ids in each list only increase.
+     * 
+     * @return The id.
+     */
+    public int nextProjectileId() {
+        return this.nextProjectileId++;
+    }
+
+    /**
+     * Returns the amount of projectiles on the field.
+     * 
+     * @return The amount of projectiles.
+     */
+    public int getProjectileCount() {
+        return this.imageProjectiles.size() + this.lineProjectiles.size();
+    }
+
+    /**
+     * Spawns an enemy at the beginning of the field.
+     * 
+     * @param type The type of the enemy.
+     */
+    public void spawnEnemy(EnemyType type) {
+        final int handle = this.enemyStore.spawn(type);
+        this.enemyGrid.add(handle);
+        this.progressIndex.add(handle);
+    }
+
+    /**
+     * Removes all enemies that are dead or have reached the end from the field.
+     */
+    public void removeFinishedEnemies() {
+        final int[] remap = this.enemyStore.removeFinished();
+        if (remap != null) {
+            this.enemyGrid.remap(remap);
+            this.progressIndex.remap(remap);
+        }
+    }
+
+    /**
+     * Moves all enemies forward by one tick.
+     */
+    public void tickEnemies() {
+        this.enemyStore.tick();
+    }
+
+    /**
+     * Rebuilds the enemy grid, this has to be called after the enemies have moved.
+     */
+    public void updateEnemyGrid() {
+        this.enemyGrid.rebuild();
     }
 
     /**
@@ -362,6 +594,6 @@ public class Field {
      * @return Whether all enemies are dead.
      */
     public boolean noEnemiesAlive() {
-        return this.enemies.size() == 0;
+        return this.enemyStore.size() == 0;
     }
 }
@@ -0,0 +1,72 @@
+package field;
+
+
+/**
+ * The parts of the path that are within a radius of a location,
+ * stored as sorted and disjoint intervals of distance from the start.
+ */
+public class PathCoverage {
+    public final double radius;
+    private final double[] starts;
+    private final double[] ends;
+    private final double totalDistance;
+
+    /**
+     * Constructs a path coverage.
+     *
+     * @param radius        The radius this coverage was computed for.
+     * @param starts        The start distance of each interval, sorted.
+     * @param ends          The end distance of each interval, sorted.
+     * @param totalDistance The total distance of the path.
+     */
+    public PathCoverage(double radius, double[] starts, double[] ends, double totalDistance) {
+        if (starts.length != ends.length) {
+            throw new IllegalArgumentException("Starts and ends must be same size.");
+        }
+        this.radius = radius;
+        this.starts = starts;
+        this.ends = ends;
+        this.totalDistance = totalDistance;
+    }
+
+    /**
+     * Returns the amount of intervals.
+     *
+     * @return The amount of intervals.
+     */
+    public int size() {
+        return this.starts.length;
+    }
+
+    public double getStart(int index) {
+        return this.starts[index];
+    }
+
+    public double getEnd(int index) {
+        return this.ends[index];
+    }
+
+    /**
+     * Returns whether a distance from the start is covered.
+     * Distances past the end count as the end, just like the location of an enemy.
+     *
+     * @param distance The distance from the start.
+     * @return         Whether the distance is covered.
+     */
+    public boolean contains(double distance) {
+        distance = Math.max(0.0, Math.min(distance, this.totalDistance));
+        int low = 0;
+        int high = this.starts.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (distance < this.starts[middle]) {
+                high = middle - 1;
+            } else if (distance > this.ends[middle]) {
+                low = middle + 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+}
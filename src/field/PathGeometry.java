@@ -0,0 +1,217 @@
+package field;
+
+import java.util.ArrayList;
+import location.Location;
+
+
+/**
+ * The geometry of the path, packed into primitive arrays.
+ * The points are resampled at a uniform arc-length, so the segment
+ * belonging to a traveled distance can be found in constant time.
+ */
+public class PathGeometry {
+    private final double[] xs;
+    private final double[] ys;
+    private final double[] distances;  // The distance from the start of each point.
+    private final double spacing;      // The distance between two consecutive points.
+    public final double totalDistance;
+
+    /**
+     * Constructs the geometry of a path.
+     *
+     * @param points The points of the path, these do not have to be evenly spaced.
+     */
+    public PathGeometry(ArrayList<Location> points) {
+        if (points.size() < 2) {
+            throw new IllegalArgumentException("A path needs at least two points.");
+        }
+        final int size = points.size();
+
+        double[] originalDistances = new double[size];
+        for (int i = 1; i < size; i++) {
+            originalDistances[i] = originalDistances[i - 1]
+                + points.get(i - 1).distanceTo(points.get(i));
+        }
+        this.totalDistance = originalDistances[size - 1];
+        this.spacing = this.totalDistance / (size - 1);
+
+        this.xs = new double[size];
+        this.ys = new double[size];
+        this.distances = new double[size];
+
+        // Both the original and the resampled distances are increasing,
+        // so a single walk over the original points is enough.
+        int segment = 0;
+        for (int i = 0; i < size; i++) {
+            double distance = Math.min(i * this.spacing, this.totalDistance);
+            while (segment < size - 2 && originalDistances[segment + 1] < distance) {
+                segment++;
+            }
+            Location lower = points.get(segment);
+            Location upper = points.get(segment + 1);
+            double length = originalDistances[segment + 1] - originalDistances[segment];
+            double percentage = length == 0.0
+                ? 0.0
+                : (distance - originalDistances[segment]) / length;
+
+            this.xs[i] = lower.x + (upper.x - lower.x) * percentage;
+            this.ys[i] = lower.y + (upper.y - lower.y) * percentage;
+            this.distances[i] = distance;
+        }
+    }
+
+    /**
+     * Returns the amount of points of this path.
+     *
+     * @return The amount of points of this path.
+     */
+    public int size() {
+        return this.xs.length;
+    }
+
+    /**
+     * Returns the distance from the start of a point.
+     *
+     * @param index The index of the point.
+     * @return      The distance from the start of the point.
+     */
+    public double distanceAt(int index) {
+        return this.distances[index];
+    }
+
+    /**
+     * Returns the index of the point at the start of the segment a distance falls in.
+     *
+     * @param distance The distance from the start.
+     * @return         The index of the lower point of the segment.
+     */
+    private int segmentIndex(double distance) {
+        int index = (int) (distance / this.spacing);
+        return Math.max(0, Math.min(index, this.xs.length - 2));
+    }
+
+    /**
+     * Returns the percentage of a segment a distance is at.
+     *
+     * @param index    The index of the lower point of the segment.
+     * @param distance The distance from the start.
+     * @return         The percentage in [0, 1].
+     */
+    private double segmentPercentage(int index, double distance) {
+        double percentage = (distance - this.distances[index]) / this.spacing;
+        return Math.max(0.0, Math.min(1.0, percentage));
+    }
+
+    /**
+     * Returns the x coordinate of the point at a distance from the start.
+     *
+     * @param distance The distance from the start.
+     * @return         The x coordinate in field pixels.
+     */
+    public double getX(double distance) {
+        int index = this.segmentIndex(distance);
+        double percentage = this.segmentPercentage(index, distance);
+        return this.xs[index] + (this.xs[index + 1] - this.xs[index]) * percentage;
+    }
+
+    /**
+     * Returns the y coordinate of the point at a distance from the start.
+     *
+     * @param distance The distance from the start.
+     * @return         The y coordinate in field pixels.
+     */
+    public double getY(double distance) {
+        int index = this.segmentIndex(distance);
+        double percentage = this.segmentPercentage(index, distance);
+        return this.ys[index] + (this.ys[index + 1] - this.ys[index]) * percentage;
+    }
+
+    /**
+     * Returns the location at a distance from the start.
+     * Distances outside of the path are clamped to the start or the end.
+     *
+     * @param distance The distance from the start.
+     * @return         The location at the distance.
+     */
+    public Location getLocation(double distance) {
+        return new Location(this.getX(distance), this.getY(distance));
+    }
+
+    /**
+     * Computes which parts of the path are within a radius of a location.
+     * Every segment is a straight line, so each one is solved exactly
+     * and touching intervals of consecutive segments are merged.
+     *
+     * @param center The location to measure from.
+     * @param radius The radius (inclusive).
+     * @return       The covered parts of the path.
+     */
+    public PathCoverage coverage(Location center, double radius) {
+        final double epsilon = 1e-9;
+        ArrayList<Double> starts = new ArrayList<>();
+        ArrayList<Double> ends = new ArrayList<>();
+
+        for (int i = 0; i < this.xs.length - 1; i++) {
+            double dx = this.xs[i + 1] - this.xs[i];
+            double dy = this.ys[i + 1] - this.ys[i];
+            double ox = this.xs[i] - center.x;
+            double oy = this.ys[i] - center.y;
+
+            // Solve |o + t * d|^2 <= radius^2 for t in [0, 1].
+            double a = dx * dx + dy * dy;
+            double b = 2 * (ox * dx + oy * dy);
+            double c = ox * ox + oy * oy - radius * radius;
+            double lowT;
+            double highT;
+            if (a == 0.0) {
+                if (c > 0) {
+                    continue;
+                }
+                lowT = 0.0;
+                highT = 1.0;
+            } else {
+                double discriminant = b * b - 4 * a * c;
+                if (discriminant < 0) {
+                    continue;
+                }
+                double root = Math.sqrt(discriminant);
+                lowT = Math.max(0.0, (-b - root) / (2 * a));
+                highT = Math.min(1.0, (-b + root) / (2 * a));
+                if (lowT > highT) {
+                    continue;
+                }
+            }
+
+            double start = this.distances[i] + lowT * this.spacing;
+            double end = this.distances[i] + highT * this.spacing;
+            int last = ends.size() - 1;
+            if (last >= 0 && start - ends.get(last) <= epsilon) {
+                ends.set(last, Math.max(ends.get(last), end));
+            } else {
+                starts.add(start);
+                ends.add(end);
+            }
+        }
+
+        double[] startArray = new double[starts.size()];
+        double[] endArray = new double[ends.size()];
+        for (int i = 0; i < startArray.length; i++) {
+            startArray[i] = starts.get(i);
+            endArray[i] = ends.get(i);
+        }
+        return new PathCoverage(radius, startArray, endArray, this.totalDistance);
+    }
+
+    /**
+     * Returns the resampled points as locations.
+     *
+     * @return The resampled points.
+     */
+    public ArrayList<Location> toLocations() {
+        ArrayList<Location> locations = new ArrayList<>(this.xs.length);
+        for (int i = 0; i < this.xs.length; i++) {
+            locations.add(new Location(this.xs[i], this.ys[i]));
+        }
+        return locations;
+    }
+}
@@ -0,0 +1,87 @@
+package game;
+
+import java.util.ArrayDeque;
+import java.util.SplittableRandom;
+
+
+/**
+ * A table to draw random indices with weights in constant time (Vose's alias method).
+ * Building the table takes linear time, so it should be reused as long as the weights
+ * do not change.
+ */
+public class AliasTable {
+    private final double[] probabilities;
+    private final int[] aliases;
+
+    /**
+     * Builds an alias table.
+     * 
+     * @param weights                   The weight of each index, at least one must be positive.
+     * @throws IllegalArgumentException If there is no positive weight.
+     */
+    public AliasTable(int[] weights) throws IllegalArgumentException {
+        final int size = weights.length;
+        long totalWeight = 0;
+        for (int weight : weights) {
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weights cannot be negative.");
+            }
+            totalWeight += weight;
+        }
+        if (totalWeight == 0) {
+            throw new IllegalArgumentException("At least one weight must be positive.");
+        }
+
+        this.probabilities = new double[size];
+        this.aliases = new int[size];
+
+        // Scale the weights so the average is exactly 1.
+        double[] scaled = new double[size];
+        ArrayDeque<Integer> small = new ArrayDeque<>();
+        ArrayDeque<Integer> large = new ArrayDeque<>();
+        for (int i = 0; i < size; i++) {
+            scaled[i] = weights[i] * (double) size / totalWeight;
+            if (scaled[i] < 1.0) {
+                small.add(i);
+            } else {
+                large.add(i);
+            }
+        }
+
+        while (!small.isEmpty() && !large.isEmpty()) {
+            int less = small.poll();
+            int more = large.poll();
+            this.probabilities[less] = scaled[less];
+            this.aliases[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1.0;
+            if (scaled[more] < 1.0) {
+                small.add(more);
+            } else {
+                large.add(more);
+            }
+        }
+        // Whatever is left is 1 up to rounding errors.
+        while (!large.isEmpty()) {
+            int index = large.poll();
+            this.probabilities[index] = 1.0;
+            this.aliases[index] = index;
+        }
+        while (!small.isEmpty()) {
+            int index = small.poll();
+            this.probabilities[index] = 1.0;
+            this.aliases[index] = index;
+        }
+    }
+
+    /**
+     * Draws a random index, with the chance of each index proportional to its weight.
+     * 
+     * @param random The random to draw with.
+     * @return       The random index.
+     */
+    public int next(SplittableRandom random) {
+        double value = random.nextDouble() * this.probabilities.length;
+        int column = (int) value;
+        return value - column < this.probabilities[column] ? column : this.aliases[column];
+    }
+}
@@ -0,0 +1,76 @@
+package game;
+
+import java.util.SplittableRandom;
+
+
+/**
+ * The settings of the endless mode, in which waves keep coming forever.
+ * Meant to push the game to huge amounts of enemies.
+ */
+public final class EndlessSettings {
+    public final double waveValueExponent;
+    public final double waveValueMultiplier;
+    public final int minTicksBetweenSpawns;
+    public final int maxTicksBetweenSpawns;
+    public final int enemiesPerSpawn;
+    public final boolean infiniteLives;
+
+    /**
+     * Constructs the settings of the endless mode.
+     * 
+     * @param waveValueExponent     The wave value grows as `waveNumber^waveValueExponent`.
+     * @param waveValueMultiplier   The multiplier of the wave value.
+     * @param minTicksBetweenSpawns The minimum amount of ticks between two spawns.
+     * @param maxTicksBetweenSpawns The maximum amount of ticks between two spawns.
+     * @param enemiesPerSpawn       The amount of enemies that spawn at once.
+     * @param infiniteLives         Whether the game can never be lost.
+     * @throws IllegalArgumentException If any of the settings is out of range.
+     */
+    public EndlessSettings(
+        double waveValueExponent,
+        double waveValueMultiplier,
+        int minTicksBetweenSpawns,
+        int maxTicksBetweenSpawns,
+        int enemiesPerSpawn,
+        boolean infiniteLives
+    ) throws IllegalArgumentException {
+        if (waveValueExponent < 0 || waveValueMultiplier < 0) {
+            throw new IllegalArgumentException("Wave value cannot shrink.");
+        }
+        if (minTicksBetweenSpawns < 0 || maxTicksBetweenSpawns < minTicksBetweenSpawns) {
+            throw new IllegalArgumentException("Invalid ticks between spawns.");
+        }
+        if (enemiesPerSpawn < 1) {
+            throw new IllegalArgumentException("At least one enemy has to spawn at once.");
+        }
+        this.waveValueExponent = waveValueExponent;
+        this.waveValueMultiplier = waveValueMultiplier;
+        this.minTicksBetweenSpawns = minTicksBetweenSpawns;
+        this.maxTicksBetweenSpawns = maxTicksBetweenSpawns;
+        this.enemiesPerSpawn = enemiesPerSpawn;
+        this.infiniteLives = infiniteLives;
+    }
+
+    /**
+     * Returns the value of a wave.
+     * 
+     * @param waveNumber The wave number.
+     * @return           The value of the wave, capped so it cannot overflow.
+     */
+    public int getWaveValue(int waveNumber) {
+        double value = Math.pow(waveNumber, this.waveValueExponent) * this.waveValueMultiplier;
+        return (int) Math.min(value, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns a random amount of ticks until the next spawn.
+     * 
+     * @param random The random to use.
+     * @return       The amount of ticks until the next spawn.
+     */
+    public int ticksUntilNextSpawn(SplittableRandom random) {
+        return this.minTicksBetweenSpawns + (int) (
+            random.nextDouble() * (this.maxTicksBetweenSpawns - this.minTicksBetweenSpawns + 1)
+        );
+    }
+}
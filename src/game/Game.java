@@ -1,7 +1,8 @@
 package game;
 
-import enemies.Enemy;
 import field.Field;
+import game.commands.Command;
+import game.commands.RecordedCommand;
 import game.options.BuyArcherTowerOption;
 import game.options.BuyBombTowerOption;
 import game.options.BuyLaserTowerOption;
@@ -12,11 +13,12 @@ import game.options.SwitchTargetOption;
 import game.options.UpgradeOption;
 import gui.Frame;
 import java.util.ArrayList;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.IntConsumer;
 import location.Location;
 import towers.RangeDamageTower;
 import towers.Tower;
-import towers.projectile.Projectile;
 
 
 /**
@@ -43,42 +45,129 @@ public final class Game {
 
     private GameState state;
     private Long seed;
-
-    // Two randoms to make sure the randomness of the field is
-    // always directly related to the seed, if given that is.
-    public Random fieldRandom;
-    public Random towerRandom;
+    private boolean headless;
+    private EndlessSettings endlessSettings;  // null when not in endless mode.
+
+    // One random per part of the game, all split from the seed, if given that is.
+    // Drawing more from one of them never changes what the others will draw,
+    // so for example spawning an extra enemy does not change the next wave.
+    public SplittableRandom fieldRandom;  // The path and the placeable locations.
+    public SplittableRandom waveRandom;  // Which enemies are spawned.
+    public SplittableRandom spawnRandom;  // When the enemies are spawned.
+    public SplittableRandom cosmeticRandom;  // Only how things look, like draw offsets.
+    public SplittableRandom towerRandom;
 
     private int exp;
     private int enemyKills;
     private int goldSpent;
 
+    // Commands can come from any thread, they are applied at the start of a tick.
+    private final ConcurrentLinkedQueue<Command> commands = new ConcurrentLinkedQueue<>();
+    private final ArrayList<RecordedCommand> commandLog = new ArrayList<>();
+    private long tickNumber;  // The amount of tick iterations, this survives a reset.
+
+    // The read-only parts of a tick run in parallel, everything they decide is applied
+    // one by one afterwards. Loops smaller than these are not worth splitting.
+    private static final int MIN_TOWERS_PER_TASK = 8;
+    private static final int MIN_PROJECTILES_PER_TASK = 32;
+    private ParallelLoop parallelLoop = new ParallelLoop(1);
+    // One body per type, so every call site only ever sees a single class.
+    private final IntConsumer prepareArcher = i -> this.field.archerTowers.get(i).prepareTick();
+    private final IntConsumer prepareBomb = i -> this.field.bombTowers.get(i).prepareTick();
+    private final IntConsumer prepareLaser = i -> this.field.laserTowers.get(i).prepareTick();
+    private final IntConsumer prepareSlingshot = i -> {
+        this.field.slingshotTowers.get(i).prepareTick();
+    };
+    private final IntConsumer prepareWizard = i -> this.field.wizardTowers.get(i).prepareTick();
+    private final IntConsumer tickImageProjectile = i -> this.field.imageProjectiles.get(i).tick();
+    private final IntConsumer tickLineProjectile = i -> this.field.lineProjectiles.get(i).tick();
+
     /**
      * Runs the game.
      * 
-     * @param seed The seed to use for the random object, null for no seed.
+     * @param seed The seed to split the randoms from, null for no seed.
      */
     public void run(Long seed) {
         System.out.println("Game starting!");
         this.seed = seed;
+        this.headless = false;
         this.field = new Field(this);
         this.frame = new Frame(this);
+        this.setParallelism(Runtime.getRuntime().availableProcessors());
         this.cacheOptions();
-        this.frame.start();
         this.init();
         this.field.init();
+        this.frame.start();  // Starts the simulation thread, so the game must be ready.
     }
 
     public void run() {
         this.run(null);
     }
 
+    /**
+     * Sets up the game without a frame, timer or painters.
+     * The game does not tick by itself, call `start` and then `tick`
+     * (or `tickUntilEnded`) as often as needed.
+     * 
+     * @param seed The seed to split the randoms from, null for no seed.
+     */
+    public void runHeadless(Long seed) {
+        this.seed = seed;
+        this.headless = true;
+        this.field = new Field(this);
+        this.frame = null;
+        this.cacheOptions();
+        this.init();
+        this.field.init();
+    }
+
+    /**
+     * Sets the amount of threads the parallel parts of a tick run on, 1 by default.
+     * The outcome of the game does not depend on this.
+     * Should be set before the game starts.
+     * 
+     * @param parallelism               The amount of threads.
+     * @throws IllegalArgumentException If the parallelism is not positive.
+     */
+    public void setParallelism(int parallelism) throws IllegalArgumentException {
+        ParallelLoop old = this.parallelLoop;
+        this.parallelLoop = new ParallelLoop(parallelism);
+        old.shutdown();
+    }
+
+    /**
+     * Turns the endless mode on or off. This survives a reset.
+     * Should be set before the game starts.
+     * 
+     * @param endlessSettings The settings of the endless mode, or null to turn it off.
+     */
+    public void setEndlessSettings(EndlessSettings endlessSettings) {
+        this.endlessSettings = endlessSettings;
+    }
+
+    /**
+     * Returns the settings of the endless mode.
+     * 
+     * @return The settings of the endless mode, or null when not in endless mode.
+     */
+    public EndlessSettings getEndlessSettings() {
+        return this.endlessSettings;
+    }
+
+    /**
+     * Returns whether this game runs without a frame.
+     * 
+     * @return Whether this game runs without a frame.
+     */
+    public boolean isHeadless() {
+        return this.headless;
+    }
+
     /**
      * Initializes the game.
      */
     private void init() {
-        this.fieldRandom = this.seed == null ? new Random() : new Random(this.seed);
-        this.towerRandom = new Random();
+        this.createRandoms();
         this.waveHandler = new WaveHandler(this);
         this.lives = this.getStartingLives();
         this.gold = this.getStartingGold();
@@ -89,6 +178,21 @@ public final class Game {
         this.state = GameState.WAITING_TO_START;
     }
 
+    /**
+     * Splits a random for every part of the game from the seed.
+     * The order of the splits must never change, as it decides what every random draws.
+     */
+    private void createRandoms() {
+        SplittableRandom root = this.seed == null
+            ? new SplittableRandom()
+            : new SplittableRandom(this.seed);
+        this.fieldRandom = root.split();
+        this.waveRandom = root.split();
+        this.spawnRandom = root.split();
+        this.cosmeticRandom = root.split();
+        this.towerRandom = root.split();
+    }
+
     /**
      * Returns the starting lives.
      * 
@@ -187,35 +291,37 @@ public final class Game {
      * @throws IllegalArgumentException If the tower does not exist or cannot be upgraded.
      */
     public void upgradeTower(Tower tower) throws IllegalArgumentException {
-        if (this.getGold() < tower.getUpgradeCost()) {
+        // Read before upgrading, afterwards it is the cost of the next level.
+        final int cost = tower.getUpgradeCost();
+        if (this.getGold() < cost) {
             throw new IllegalArgumentException("Not enough gold.");
         }
         tower.upgrade();  // Throws if it cannot be upgraded.
-        this.removeGold(tower.getUpgradeCost());
+        this.removeGold(cost);
     }
 
-    private static BuyArcherTowerOption BUY_ARCHER_TOWER_OPTION;
-    private static BuyBombTowerOption BUY_BOMB_TOWER_OPTION;
-    private static BuyLaserTowerOption BUY_LASER_TOWER_OPTION;
-    private static BuyWizardTowerOption BUY_WIZARD_TOWER_OPTION;
-    private static BuySlingshotTowerOption BUY_SLINGSHOT_TOWER_OPTION;
+    private BuyArcherTowerOption buyArcherTowerOption;
+    private BuyBombTowerOption buyBombTowerOption;
+    private BuyLaserTowerOption buyLaserTowerOption;
+    private BuyWizardTowerOption buyWizardTowerOption;
+    private BuySlingshotTowerOption buySlingshotTowerOption;
 
-    private static SellOption SELL_OPTION;
-    private static UpgradeOption UPGRADE_OPTION;
-    private static SwitchTargetOption SWITCH_TARGET_OPTION;
+    private SellOption sellOption;
+    private UpgradeOption upgradeOption;
+    private SwitchTargetOption switchTargetOption;
 
     /**
      * Caches the options because there is no need to create them every time.
      */
     private void cacheOptions() {
-        BUY_ARCHER_TOWER_OPTION = new BuyArcherTowerOption(this, this.field);
-        BUY_BOMB_TOWER_OPTION = new BuyBombTowerOption(this, this.field);
-        BUY_LASER_TOWER_OPTION = new BuyLaserTowerOption(this, this.field);
-        BUY_WIZARD_TOWER_OPTION = new BuyWizardTowerOption(this, this.field);
-        BUY_SLINGSHOT_TOWER_OPTION = new BuySlingshotTowerOption(this, this.field);
-        SELL_OPTION = new SellOption(this, this.field);
-        UPGRADE_OPTION = new UpgradeOption(this, this.field);
-        SWITCH_TARGET_OPTION = new SwitchTargetOption(this, this.field);
+        this.buyArcherTowerOption = new BuyArcherTowerOption(this, this.field);
+        this.buyBombTowerOption = new BuyBombTowerOption(this, this.field);
+        this.buyLaserTowerOption = new BuyLaserTowerOption(this, this.field);
+        this.buyWizardTowerOption = new BuyWizardTowerOption(this, this.field);
+        this.buySlingshotTowerOption = new BuySlingshotTowerOption(this, this.field);
+        this.sellOption = new SellOption(this, this.field);
+        this.upgradeOption = new UpgradeOption(this, this.field);
+        this.switchTargetOption = new SwitchTargetOption(this, this.field);
     }
 
     /**
@@ -224,11 +330,11 @@ public final class Game {
      * @param options The options to add to.
      */
     private void addBuyTowerOptions(ArrayList<Option> options) {
-        options.add(BUY_ARCHER_TOWER_OPTION);
-        options.add(BUY_BOMB_TOWER_OPTION);
-        options.add(BUY_LASER_TOWER_OPTION);
-        options.add(BUY_WIZARD_TOWER_OPTION);
-        options.add(BUY_SLINGSHOT_TOWER_OPTION);
+        options.add(this.buyArcherTowerOption);
+        options.add(this.buyBombTowerOption);
+        options.add(this.buyLaserTowerOption);
+        options.add(this.buyWizardTowerOption);
+        options.add(this.buySlingshotTowerOption);
     }
 
     /**
@@ -238,12 +344,12 @@ public final class Game {
      * @param tower   The tower.
      */
     private void addExistingTowerOptions(ArrayList<Option> options, Tower tower) {
-        options.add(SELL_OPTION);
+        options.add(this.sellOption);
         if (tower.canUpgrade()) {
-            options.add(UPGRADE_OPTION);
+            options.add(this.upgradeOption);
         }
         if (tower instanceof RangeDamageTower) {
-            options.add(SWITCH_TARGET_OPTION);
+            options.add(this.switchTargetOption);
         }
     }
 
@@ -254,61 +360,159 @@ public final class Game {
      */
     public ArrayList<Option> getSelectedOptions() {
         ArrayList<Option> options = new ArrayList<>();
+        this.addSelectedOptions(options);
+        return options;
+    }
+
+    /**
+     * Adds the selected options to a list, so the list can be reused.
+     * 
+     * @param options The options to add to.
+     */
+    public void addSelectedOptions(ArrayList<Option> options) {
         if (this.selectedLocation == null) {
-            return options;
+            return;
         }
-        Tower tower = this.field.towers.getOrDefault(this.selectedLocation, null);
+        Tower tower = this.field.getTower(this.selectedLocation);
         if (tower == null) {
             this.addBuyTowerOptions(options);
-            return options;
+            return;
         }
         this.addExistingTowerOptions(options, tower);
-        return options;
+    }
+
+    /**
+     * Submits a command, which is applied at the start of the next tick.
+     * This is the only method that may be called from another thread than the one ticking.
+     * 
+     * @param command The command.
+     */
+    public void submit(Command command) {
+        this.commands.add(command);
+    }
+
+    /**
+     * Returns every command that was applied so far, in order.
+     * 
+     * @return The applied commands with the tick they were applied at.
+     */
+    public ArrayList<RecordedCommand> getCommandLog() {
+        return this.commandLog;
+    }
+
+    /**
+     * Returns the amount of tick iterations so far.
+     * 
+     * @return The tick number.
+     */
+    public long getTickNumber() {
+        return this.tickNumber;
+    }
+
+    /**
+     * Applies all submitted commands and records them.
+     */
+    private void applyCommands() {
+        Command command = this.commands.poll();
+        while (command != null) {
+            command.apply(this);
+            this.commandLog.add(new RecordedCommand(this.tickNumber, command));
+            command = this.commands.poll();
+        }
     }
 
     /**
      * Handle a game tick.
+     * Commands are applied first, even when the game is not running.
      */
     public void tick() {
+        this.applyCommands();
         if (!this.isRunning()) {
             return;
         }
         for (int i = 0; i < this.speed.value; i++) {
             this.tickIteration();
         }
-        this.field.sortEnemies();  // To make sure the enemies are drawn in the right order.
     }
 
     /**
      * Handle a game tick iteration.
      */
     private void tickIteration() {
+        this.tickNumber++;
         this.waveHandler.tick();
-        for (Tower tower : this.field.towers.values()) {
-            tower.tick();
+        this.tickTowers();
+        this.field.tickEnemies();
+        this.field.updateEnemyGrid();
+        this.tickProjectiles();
+        this.field.removeFinishedEnemies();
+        if (this.waveHandler.isCompletelyDone()) {
+            this.onWin();
+        }
+    }
+
+    /**
+     * Lets the towers choose their targets in parallel, then fire one by one.
+     * Both go type by type, and within a type in slot order.
+     */
+    private void tickTowers() {
+        final Field field = this.field;
+        final ParallelLoop loop = this.parallelLoop;
+        loop.forEach(field.archerTowers.size(), MIN_TOWERS_PER_TASK, this.prepareArcher);
+        loop.forEach(field.bombTowers.size(), MIN_TOWERS_PER_TASK, this.prepareBomb);
+        loop.forEach(field.laserTowers.size(), MIN_TOWERS_PER_TASK, this.prepareLaser);
+        loop.forEach(field.slingshotTowers.size(), MIN_TOWERS_PER_TASK, this.prepareSlingshot);
+        loop.forEach(field.wizardTowers.size(), MIN_TOWERS_PER_TASK, this.prepareWizard);
+        for (int i = 0; i < field.archerTowers.size(); i++) {
+            field.archerTowers.get(i).applyTick();
         }
-        for (Enemy enemy : this.field.enemies) {
-            enemy.tick();
+        for (int i = 0; i < field.bombTowers.size(); i++) {
+            field.bombTowers.get(i).applyTick();
         }
-        for (int i = this.field.projectiles.size() - 1; i >= 0; i--) {
-            Projectile projectile = this.field.projectiles.get(i);
-            boolean shouldBeRemoved = projectile.tick();
-            if (shouldBeRemoved) {
-                this.field.projectiles.remove(i);
-            }
+        for (int i = 0; i < field.laserTowers.size(); i++) {
+            field.laserTowers.get(i).applyTick();
         }
-        for (int i = this.field.enemies.size() - 1; i >= 0; i--) {
-            Enemy enemy = this.field.enemies.get(i);
-            boolean shouldBeRemoved = enemy.isDead() || enemy.isAtEnd();
-            if (shouldBeRemoved) {
-                this.field.enemies.remove(i);
-            }
+        for (int i = 0; i < field.slingshotTowers.size(); i++) {
+            field.slingshotTowers.get(i).applyTick();
         }
-        if (this.waveHandler.isCompletelyDone()) {
-            this.onWin();
+        for (int i = 0; i < field.wizardTowers.size(); i++) {
+            field.wizardTowers.get(i).applyTick();
         }
     }
 
+    /**
+     * Lets the projectiles move and find what they hit in parallel,
+     * then damages the enemies one by one, type by type.
+     * The finished projectiles are removed in the same pass.
+     */
+    private void tickProjectiles() {
+        final Field field = this.field;
+        final ParallelLoop loop = this.parallelLoop;
+        loop.forEach(
+            field.imageProjectiles.size(), MIN_PROJECTILES_PER_TASK, this.tickImageProjectile
+        );
+        loop.forEach(
+            field.lineProjectiles.size(), MIN_PROJECTILES_PER_TASK, this.tickLineProjectile
+        );
+        field.applyProjectileHits();
+    }
+
+    /**
+     * Ticks the game as fast as possible until it has ended.
+     * Meant for headless games, which are not driven by a timer.
+     * 
+     * @param maxTicks The maximum amount of ticks, in case the game never ends.
+     * @return         The amount of ticks that were performed.
+     */
+    public long tickUntilEnded(long maxTicks) {
+        long ticks = 0;
+        while (this.isRunning() && ticks < maxTicks) {
+            this.tick();
+            ticks++;
+        }
+        return ticks;
+    }
+
     /**
      * Starts the game.
      */
@@ -424,6 +628,9 @@ public final class Game {
         this.lives -= amount;
         if (this.lives <= 0) {
             this.lives = 0;
+            if (this.endlessSettings != null && this.endlessSettings.infiniteLives) {
+                return;
+            }
             this.onLose();
         }
     }
@@ -436,13 +643,23 @@ public final class Game {
         TWO(2),
         THREE(3),
         FIVE(5),
-        TEN(10);
+        TEN(10),
+        MAX(1);  // As many ticks as the simulation thread can do.
 
         public final int value;
 
         Speed(int value) {
             this.value = value;
         }
+
+        /**
+         * Returns whether the game should tick as fast as possible at this speed.
+         * 
+         * @return Whether this speed is uncapped.
+         */
+        public boolean isUncapped() {
+            return this == MAX;
+        }
     }
 
     /**
@@ -468,7 +685,9 @@ public final class Game {
         if (this.hasEnded()) {
             return;
         }
-        System.out.println("You won the game!");
+        if (!this.headless) {
+            System.out.println("You won the game!");
+        }
         this.state = GameState.WON;
     }
 
@@ -479,7 +698,9 @@ public final class Game {
         if (this.hasEnded()) {
             return;
         }
-        System.out.println("You lost the game :(");
+        if (!this.headless) {
+            System.out.println("You lost the game :(");
+        }
         this.state = GameState.LOST;
     }
 }
@@ -0,0 +1,100 @@
+package game;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+
+/**
+ * Runs the body of a loop over a range of indices on a fork-join pool.
+ * Every index must be independent of the others, so the result is the same
+ * no matter how many threads are used or in which order the indices run.
+ */
+public final class ParallelLoop {
+    private final ForkJoinPool pool;  // null when everything runs on the calling thread.
+
+    /**
+     * Constructs a parallel loop.
+     *
+     * @param parallelism               The amount of threads, 1 to run on the calling thread.
+     * @throws IllegalArgumentException If the parallelism is not positive.
+     */
+    public ParallelLoop(int parallelism) throws IllegalArgumentException {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive.");
+        }
+        this.pool = parallelism == 1 ? null : new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * Returns the amount of threads this loop runs on.
+     *
+     * @return The amount of threads.
+     */
+    public int getParallelism() {
+        return this.pool == null ? 1 : this.pool.getParallelism();
+    }
+
+    /**
+     * Runs a body for every index in [0, size) and waits until all of them are done.
+     * Ranges of at most `minChunk` indices are not split any further,
+     * so small loops run on the calling thread without any overhead.
+     *
+     * @param size     The amount of indices.
+     * @param minChunk The amount of indices that is not worth splitting.
+     * @param body     The body to run for every index.
+     */
+    public void forEach(int size, int minChunk, IntConsumer body) {
+        if (this.pool == null || size <= minChunk) {
+            for (int i = 0; i < size; i++) {
+                body.accept(i);
+            }
+            return;
+        }
+        this.pool.invoke(new RangeTask(0, size, minChunk, body));
+    }
+
+    /**
+     * Stops the threads of this loop, it cannot be used afterwards.
+     */
+    public void shutdown() {
+        if (this.pool != null) {
+            this.pool.shutdown();
+        }
+    }
+
+    /**
+     * Runs a range of indices, splitting it in halves until it is small enough.
+     */
+    private static final class RangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int start;
+        private final int end;
+        private final int minChunk;
+        private final IntConsumer body;
+
+        private RangeTask(int start, int end, int minChunk, IntConsumer body) {
+            this.start = start;
+            this.end = end;
+            this.minChunk = minChunk;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.end - this.start <= this.minChunk) {
+                for (int i = this.start; i < this.end; i++) {
+                    this.body.accept(i);
+                }
+                return;
+            }
+            int middle = (this.start + this.end) >>> 1;
+            RangeTask lower = new RangeTask(this.start, middle, this.minChunk, this.body);
+            RangeTask upper = new RangeTask(middle, this.end, this.minChunk, this.body);
+            lower.fork();
+            upper.compute();
+            lower.join();
+        }
+    }
+}
@@ -1,11 +1,9 @@
 package game;
 
-import enemies.Enemy;
+import enemies.EnemyType;
 import enemies.implementations.DroneEnemy;
 import enemies.implementations.RegularEnemy;
 import enemies.implementations.TankEnemy;
-import java.util.ArrayList;
-import java.util.Collections;
 
 
 /**
@@ -15,8 +13,7 @@ public class WaveHandler {
     private Game game;
 
     private int waveNumber;
-    private ArrayList<Enemy> enemies;
-    private int spawnIndex;
+    private int remainingWaveValue;  // The value of the enemies still to spawn this wave.
     private int ticksUntilNextSpawn;
     private int ticksUntilNextWave;
 
@@ -28,55 +25,65 @@ public class WaveHandler {
     public WaveHandler(Game game) {
         this.game = game;
         this.waveNumber = 0;
-        this.enemies = new ArrayList<>();
+        this.remainingWaveValue = 0;
         // Wait some time before starting the first wave.
         this.ticksUntilNextWave = this.game.ticksPerSecond;
     }
 
+    private static final EnemyType[] ENEMY_TYPES = new EnemyType[] {
+        RegularEnemy.TYPE,
+        DroneEnemy.TYPE,
+        TankEnemy.TYPE
+    };
+
+    // The alias table only has to change when a type stops being affordable.
+    private int affordableMask = 0;  // Bit i is set when `ENEMY_TYPES[i]` is affordable.
+    private EnemyType[] affordableTypes;
+    private AliasTable affordableTable;
+
     /**
-     * Returns a random element from an array, with weights.
+     * Returns a random enemy type that fits within a value, with the type weights.
      * 
-     * @param <T>     The type of the elements in the array.
-     * @param array   The array to choose from.
-     * @param weights The weights of the elements in the array.
-     * @return        A random element from the array.
+     * @param maxValue The maximum value of the enemy type.
+     * @return         A random enemy type, or null if none fits.
      */
-    private <T> T randomChoice(
-        ArrayList<T> array,
-        ArrayList<Integer> weights
-    ) {
-        if (array.size() != weights.size()) {
-            throw new RuntimeException("Array and weights must be same size");
+    private EnemyType randomAffordableType(int maxValue) {
+        int mask = 0;
+        int count = 0;
+        for (int i = 0; i < ENEMY_TYPES.length; i++) {
+            if (ENEMY_TYPES[i].value <= maxValue && ENEMY_TYPES[i].weight > 0) {
+                mask |= 1 << i;
+                count++;
+            }
         }
-
-        int totalWeight = 0;
-        for (int weight : weights) {
-            totalWeight += weight;
+        if (count == 0) {
+            return null;
         }
-
-        int random = (int) (this.game.fieldRandom.nextDouble() * totalWeight);
-        int sum = 0;
-        for (int i = 0; i < array.size(); i++) {
-            sum += weights.get(i);
-            if (random < sum) {
-                return array.get(i);
-            }
+        if (mask != this.affordableMask) {
+            this.rebuildAffordableTable(mask, count);
         }
-
-        throw new RuntimeException("Should never happen");
+        return this.affordableTypes[this.affordableTable.next(this.game.waveRandom)];
     }
 
     /**
-     * Returns an array of enemy types that can be spawned.
+     * Rebuilds the alias table for a set of affordable enemy types.
      * 
-     * @return An array of enemy types that can be spawned.
+     * @param mask  Bit i is set when `ENEMY_TYPES[i]` is affordable.
+     * @param count The amount of affordable types.
      */
-    private Enemy[] getEnemyTypes() {
-        return new Enemy[] {
-            new RegularEnemy(this.game),
-            new DroneEnemy(this.game),
-            new TankEnemy(this.game)
-        };
+    private void rebuildAffordableTable(int mask, int count) {
+        this.affordableTypes = new EnemyType[count];
+        int[] weights = new int[count];
+        int index = 0;
+        for (int i = 0; i < ENEMY_TYPES.length; i++) {
+            if ((mask & (1 << i)) != 0) {
+                this.affordableTypes[index] = ENEMY_TYPES[i];
+                weights[index] = ENEMY_TYPES[i].weight;
+                index++;
+            }
+        }
+        this.affordableTable = new AliasTable(weights);
+        this.affordableMask = mask;
     }
 
     /**
@@ -86,6 +93,10 @@ public class WaveHandler {
      * @return The value of the current wave.
      */
     public int getWaveValue() {
+        EndlessSettings endless = this.game.getEndlessSettings();
+        if (endless != null) {
+            return endless.getWaveValue(this.waveNumber);
+        }
         return (int) Math.pow(this.waveNumber, 1.1) * 40;
     }
 
@@ -95,6 +106,9 @@ public class WaveHandler {
      * @return The maximum wave number.
      */
     public int getMaxWave() {
+        if (this.game.getEndlessSettings() != null) {
+            return Integer.MAX_VALUE;
+        }
         return 30;
     }
 
@@ -108,9 +122,14 @@ public class WaveHandler {
     }
 
     private void newTicksUntilNextSpawn() {
+        EndlessSettings endless = this.game.getEndlessSettings();
+        if (endless != null) {
+            this.ticksUntilNextSpawn = endless.ticksUntilNextSpawn(this.game.spawnRandom);
+            return;
+        }
         this.ticksUntilNextSpawn = (int) (
             this.game.ticksPerSecond * 0.1
-            + this.game.fieldRandom.nextDouble() * this.game.ticksPerSecond * 1.4
+            + this.game.spawnRandom.nextDouble() * this.game.ticksPerSecond * 1.4
             );  // Checker only accepts this indentation for some reason
     }
 
@@ -124,45 +143,30 @@ public class WaveHandler {
     }
 
     /**
-     * Generates a new wave of enemies.
-     * Note that this does not spawn the enemies.
+     * Prepares a new wave of enemies.
+     * The enemies themselves are only drawn and created when they spawn.
      */
     private void generateNewEnemies() {
-        this.enemies = new ArrayList<Enemy>();
-
-        int waveValue = this.getWaveValue();
-
-        while (waveValue > 0) {
-            ArrayList<Enemy> choices = new ArrayList<Enemy>();
-            ArrayList<Integer> weights = new ArrayList<Integer>();
-            for (Enemy enemy : this.getEnemyTypes()) {
-                if (enemy.value > waveValue) {
-                    continue;
-                }
-                choices.add(enemy);
-                weights.add(enemy.weight);
-            }
-            if (choices.size() == 0) {
-                break;
-            }
-
-            Enemy enemy = this.randomChoice(choices, weights);
-            this.enemies.add(enemy);
-            waveValue -= enemy.value;
-        }
-
-        Collections.shuffle(this.enemies, this.game.fieldRandom);
-        this.spawnIndex = 0;
+        this.remainingWaveValue = this.getWaveValue();
         this.newTicksUntilNextSpawn();
     }
 
     /**
-     * Spawns the next enemy in the wave.
+     * Spawns the next enemy (or enemies in endless mode) in the wave.
      */
     private void spawnNextEnemy() {
-        Enemy enemy = this.enemies.get(this.spawnIndex);
-        this.game.field.addEnemy(enemy);
-        this.spawnIndex++;
+        EndlessSettings endless = this.game.getEndlessSettings();
+        int amount = endless == null ? 1 : endless.enemiesPerSpawn;
+        for (int i = 0; i < amount; i++) {
+            EnemyType type = this.randomAffordableType(this.remainingWaveValue);
+            if (type == null) {
+                // Nothing fits in the remaining value anymore.
+                this.remainingWaveValue = 0;
+                return;
+            }
+            this.game.field.spawnEnemy(type);
+            this.remainingWaveValue -= type.value;
+        }
         this.newTicksUntilNextSpawn();
     }
 
@@ -172,7 +176,12 @@ public class WaveHandler {
      * @return Whether the wave is done spawning.
      */
     private boolean isDoneSpawning() {
-        return this.spawnIndex >= this.enemies.size();
+        for (EnemyType type : ENEMY_TYPES) {
+            if (type.value <= this.remainingWaveValue && type.weight > 0) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
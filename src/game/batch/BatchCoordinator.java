@@ -0,0 +1,201 @@
+package game.batch;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+
+/**
+ * Spreads a range of seeds over several worker processes on this machine.
+ *
+ * The range is cut into small units that wait in a shared queue. Every worker
+ * asks for the next unit as soon as it is done with the previous one, so a fast
+ * worker simply takes over the units a slow worker has not started yet.
+ * When a worker dies, the unit it was playing goes back into the queue.
+ * Units that are left when every worker is gone are played in this process.
+ *
+ * The workers talk to the coordinator over a socket on the loopback address,
+ * see `BatchWorker`.
+ */
+public final class BatchCoordinator {
+    private static final int ACCEPT_TIMEOUT_MILLIS = 30_000;
+
+    private final BuildOrder buildOrder;
+    private final int processes;
+    private final int threadsPerProcess;
+    private final int unitSize;
+
+    /**
+     * Constructs a coordinator.
+     *
+     * @param buildOrder        The build order every game plays.
+     * @param processes         The amount of worker processes.
+     * @param threadsPerProcess The amount of threads every worker uses.
+     * @param unitSize          The amount of seeds a worker gets at once.
+     * @throws IllegalArgumentException If any amount is not positive.
+     */
+    public BatchCoordinator(
+        BuildOrder buildOrder,
+        int processes,
+        int threadsPerProcess,
+        int unitSize
+    ) throws IllegalArgumentException {
+        if (processes < 1 || threadsPerProcess < 1 || unitSize < 1) {
+            throw new IllegalArgumentException("Amounts must be positive.");
+        }
+        this.buildOrder = buildOrder;
+        this.processes = processes;
+        this.threadsPerProcess = threadsPerProcess;
+        this.unitSize = unitSize;
+    }
+
+    /**
+     * Plays a game for every seed in a range.
+     *
+     * @param firstSeed    The first seed (inclusive).
+     * @param lastSeed     The last seed (inclusive).
+     * @return             The statistics of all games.
+     * @throws IOException If the server socket cannot be opened.
+     * @throws IllegalArgumentException If the range is empty.
+     */
+    public BatchStatistics run(
+        long firstSeed, long lastSeed
+    ) throws IOException, IllegalArgumentException {
+        if (lastSeed < firstSeed) {
+            throw new IllegalArgumentException("The range of seeds is empty.");
+        }
+        ConcurrentLinkedDeque<long[]> units = new ConcurrentLinkedDeque<>();
+        for (long seed = firstSeed; seed <= lastSeed; seed += this.unitSize) {
+            units.add(new long[] {seed, Math.min(lastSeed, seed + this.unitSize - 1)});
+            if (seed > Long.MAX_VALUE - this.unitSize) {
+                break;
+            }
+        }
+
+        BatchStatistics total = new BatchStatistics();
+        ArrayList<Process> workers = new ArrayList<>();
+        ArrayList<Thread> handlers = new ArrayList<>();
+        try (ServerSocket server = new ServerSocket(
+            0, this.processes, InetAddress.getLoopbackAddress()
+        )) {
+            server.setSoTimeout(ACCEPT_TIMEOUT_MILLIS);
+            for (int i = 0; i < this.processes; i++) {
+                workers.add(this.startWorker(server.getLocalPort()));
+            }
+            for (int i = 0; i < this.processes; i++) {
+                Socket socket;
+                try {
+                    socket = server.accept();
+                } catch (SocketTimeoutException e) {
+                    // Carry on with the workers that did connect, the rest is played here.
+                    System.err.printf(
+                        "Only %d of %d workers connected.%n", handlers.size(), this.processes
+                    );
+                    break;
+                }
+                Thread handler = new Thread(() -> this.handle(socket, units, total));
+                handler.start();
+                handlers.add(handler);
+            }
+            for (Thread handler : handlers) {
+                handler.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the workers.", e);
+        } finally {
+            for (Process worker : workers) {
+                worker.destroy();
+            }
+        }
+
+        // Only happens when workers did not connect, or died after the queue
+        // looked empty to the others.
+        BatchRunner runner = new BatchRunner(this.buildOrder);
+        for (long[] unit = units.poll(); unit != null; unit = units.poll()) {
+            total.merge(runner.run(unit[0], unit[1], this.threadsPerProcess));
+        }
+        return total;
+    }
+
+    /**
+     * Starts a worker process with the same java and class path as this process.
+     *
+     * @param port         The port of the coordinator.
+     * @return             The worker process.
+     * @throws IOException If the process cannot be started.
+     */
+    private Process startWorker(int port) throws IOException {
+        String java = System.getProperty("java.home")
+            + File.separator + "bin" + File.separator + "java";
+        ProcessBuilder builder = new ProcessBuilder(
+            java,
+            "-cp", System.getProperty("java.class.path"),
+            BatchWorker.class.getName(),
+            Integer.toString(port),
+            Integer.toString(this.threadsPerProcess)
+        );
+        builder.redirectOutput(ProcessBuilder.Redirect.INHERIT);
+        builder.redirectError(ProcessBuilder.Redirect.INHERIT);
+        return builder.start();
+    }
+
+    /**
+     * Hands out units to a single worker until the queue is empty or the worker is gone.
+     *
+     * @param socket The connection to the worker.
+     * @param units  The units that have not been played yet.
+     * @param total  The statistics to merge the results into.
+     */
+    private void handle(Socket socket, ConcurrentLinkedDeque<long[]> units, BatchStatistics total) {
+        BatchStatistics stats = new BatchStatistics();
+        long[] unit = null;  // The unit the worker is playing, if any.
+        try (socket) {
+            DataInputStream in = new DataInputStream(
+                new BufferedInputStream(socket.getInputStream())
+            );
+            DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(socket.getOutputStream())
+            );
+            out.writeUTF(this.buildOrder.toString());
+            out.flush();
+            while (true) {
+                if (in.readInt() != BatchWorker.REQUEST_WORK) {
+                    throw new IOException("Unexpected message from worker.");
+                }
+                unit = units.poll();
+                if (unit == null) {
+                    out.writeLong(0);
+                    out.writeLong(-1);  // An empty range means there is no more work.
+                    out.flush();
+                    break;
+                }
+                out.writeLong(unit[0]);
+                out.writeLong(unit[1]);
+                out.flush();
+                if (in.readInt() != BatchWorker.SEND_RESULT) {
+                    throw new IOException("Unexpected message from worker.");
+                }
+                stats.merge(BatchStatistics.read(in));  // Only once it is read completely.
+                unit = null;
+            }
+        } catch (IOException e) {
+            System.err.println("Lost a worker: " + e);
+            if (unit != null) {
+                units.addFirst(unit);
+            }
+        }
+        synchronized (total) {
+            total.merge(stats);
+        }
+    }
+}
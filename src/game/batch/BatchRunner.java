@@ -0,0 +1,105 @@
+package game.batch;
+
+import game.Game;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+
+/**
+ * Runs headless games over a range of seeds in parallel, all playing the same build order.
+ * The range is split in halves on a fork-join pool and the statistics of
+ * the halves are merged, so no result of a single game is kept around.
+ */
+public final class BatchRunner {
+    private static final long MAX_TICKS_PER_GAME = 10_000_000L;
+
+    private final BuildOrder buildOrder;
+
+    /**
+     * Constructs a batch runner.
+     *
+     * @param buildOrder The build order every game plays.
+     */
+    public BatchRunner(BuildOrder buildOrder) {
+        this.buildOrder = buildOrder;
+    }
+
+    /**
+     * Plays a single game until it has ended.
+     *
+     * @param seed  The seed of the game.
+     * @param stats The statistics to add the result to.
+     */
+    public void runGame(long seed, BatchStatistics stats) {
+        Game game = new Game();
+        game.runHeadless(seed);
+        BuildOrder.Player player = this.buildOrder.play(game);
+        player.act();
+        game.start();
+
+        long ticks = 0;
+        while (game.isRunning() && ticks < MAX_TICKS_PER_GAME) {
+            player.act();
+            game.tick();
+            ticks++;
+        }
+        stats.add(game, ticks);
+    }
+
+    /**
+     * Plays a game for every seed in a range.
+     *
+     * @param firstSeed   The first seed (inclusive).
+     * @param lastSeed    The last seed (inclusive).
+     * @param parallelism The amount of threads to use.
+     * @return            The statistics of all games.
+     * @throws IllegalArgumentException If the range is empty or the parallelism is not positive.
+     */
+    public BatchStatistics run(
+        long firstSeed, long lastSeed, int parallelism
+    ) throws IllegalArgumentException {
+        if (lastSeed < firstSeed) {
+            throw new IllegalArgumentException("The range of seeds is empty.");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive.");
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.invoke(new SeedRangeTask(firstSeed, lastSeed));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Plays the games of a range of seeds, splitting it until a single seed is left.
+     */
+    private final class SeedRangeTask extends RecursiveTask<BatchStatistics> {
+        private static final long serialVersionUID = 1L;
+
+        private final long firstSeed;
+        private final long lastSeed;
+
+        private SeedRangeTask(long firstSeed, long lastSeed) {
+            this.firstSeed = firstSeed;
+            this.lastSeed = lastSeed;
+        }
+
+        @Override
+        protected BatchStatistics compute() {
+            if (this.firstSeed == this.lastSeed) {
+                BatchStatistics stats = new BatchStatistics();
+                BatchRunner.this.runGame(this.firstSeed, stats);
+                return stats;
+            }
+            long middle = this.firstSeed + (this.lastSeed - this.firstSeed) / 2;
+            SeedRangeTask lower = new SeedRangeTask(this.firstSeed, middle);
+            SeedRangeTask upper = new SeedRangeTask(middle + 1, this.lastSeed);
+            lower.fork();
+            BatchStatistics stats = upper.compute();
+            stats.merge(lower.join());
+            return stats;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package game.batch;
+
+import game.Game;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+
+/**
+ * The aggregated results of a batch of finished games.
+ */
+public final class BatchStatistics {
+    private long games;
+    private long wins;
+    private long timeouts;  // Games that were cut off before they ended.
+    public final RunningStatistics lives = new RunningStatistics();
+    public final RunningStatistics exp = new RunningStatistics();
+    public final RunningStatistics enemyKills = new RunningStatistics();
+    public final RunningStatistics goldSpent = new RunningStatistics();
+    public final RunningStatistics lossWave = new RunningStatistics();  // Only lost games.
+    public final RunningStatistics ticks = new RunningStatistics();
+
+    /**
+     * Adds the result of a game.
+     *
+     * @param game  The game, which has ended or was cut off.
+     * @param ticks The amount of ticks the game took.
+     */
+    public void add(Game game, long ticks) {
+        this.games++;
+        if (game.hasWon()) {
+            this.wins++;
+        } else if (game.hasLost()) {
+            this.lossWave.add(game.waveHandler.getWaveNumber());
+        } else {
+            this.timeouts++;
+        }
+        this.lives.add(game.getLives());
+        this.exp.add(game.getExp());
+        this.enemyKills.add(game.getEnemyKills());
+        this.goldSpent.add(game.getGoldSpent());
+        this.ticks.add(ticks);
+    }
+
+    /**
+     * Adds all results of another batch.
+     *
+     * @param other The other batch.
+     */
+    public void merge(BatchStatistics other) {
+        this.games += other.games;
+        this.wins += other.wins;
+        this.timeouts += other.timeouts;
+        this.lives.merge(other.lives);
+        this.exp.merge(other.exp);
+        this.enemyKills.merge(other.enemyKills);
+        this.goldSpent.merge(other.goldSpent);
+        this.lossWave.merge(other.lossWave);
+        this.ticks.merge(other.ticks);
+    }
+
+    /**
+     * Writes these statistics to a stream.
+     *
+     * @param out          The stream.
+     * @throws IOException If writing fails.
+     */
+    public void write(DataOutputStream out) throws IOException {
+        out.writeLong(this.games);
+        out.writeLong(this.wins);
+        out.writeLong(this.timeouts);
+        this.lives.write(out);
+        this.exp.write(out);
+        this.enemyKills.write(out);
+        this.goldSpent.write(out);
+        this.lossWave.write(out);
+        this.ticks.write(out);
+    }
+
+    /**
+     * Reads statistics written by `write`.
+     *
+     * @param in           The stream.
+     * @return             The statistics.
+     * @throws IOException If reading fails.
+     */
+    public static BatchStatistics read(DataInputStream in) throws IOException {
+        BatchStatistics stats = new BatchStatistics();
+        stats.games = in.readLong();
+        stats.wins = in.readLong();
+        stats.timeouts = in.readLong();
+        stats.lives.merge(RunningStatistics.read(in));
+        stats.exp.merge(RunningStatistics.read(in));
+        stats.enemyKills.merge(RunningStatistics.read(in));
+        stats.goldSpent.merge(RunningStatistics.read(in));
+        stats.lossWave.merge(RunningStatistics.read(in));
+        stats.ticks.merge(RunningStatistics.read(in));
+        return stats;
+    }
+
+    /**
+     * Returns the amount of games.
+     *
+     * @return The amount of games.
+     */
+    public long getGames() {
+        return this.games;
+    }
+
+    /**
+     * Returns the amount of games that were won.
+     *
+     * @return The amount of won games.
+     */
+    public long getWins() {
+        return this.wins;
+    }
+
+    /**
+     * Returns the amount of games that were cut off before they were won or lost.
+     *
+     * @return The amount of timed out games.
+     */
+    public long getTimeouts() {
+        return this.timeouts;
+    }
+
+    /**
+     * Returns the fraction of games that were won.
+     *
+     * @return The win rate in [0, 1], or NaN without any games.
+     */
+    public double getWinRate() {
+        return this.games == 0 ? Double.NaN : (double) this.wins / this.games;
+    }
+
+    @Override
+    public String toString() {
+        return String.join(
+            System.lineSeparator(),
+            String.format("Games:      %d", this.games),
+            String.format("Win rate:   %.1f%%", this.getWinRate() * 100),
+            String.format("Timed out:  %d", this.timeouts),
+            String.format("Lives:      %s", this.lives),
+            String.format("Exp:        %s", this.exp),
+            String.format("Kills:      %s", this.enemyKills),
+            String.format("Gold spent: %s", this.goldSpent),
+            String.format("Loss wave:  %s", this.lossWave),
+            String.format("Ticks:      %s", this.ticks)
+        );
+    }
+}
@@ -0,0 +1,55 @@
+package game.batch;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+
+
+/**
+ * A worker process of the `BatchCoordinator`.
+ *
+ * The worker connects to the coordinator, receives the build order and then keeps
+ * asking for ranges of seeds. Every range is played with a `BatchRunner` and the
+ * statistics are sent back, until the coordinator has no ranges left.
+ *
+ * Usage: `java game.batch.BatchWorker <port> <threads>`.
+ */
+public final class BatchWorker {
+    static final int REQUEST_WORK = 1;
+    static final int SEND_RESULT = 2;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.out.println("Usage: java game.batch.BatchWorker <port> <threads>");
+            System.exit(1);
+        }
+        int port = Integer.parseInt(args[0]);
+        int threads = Integer.parseInt(args[1]);
+
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            DataInputStream in = new DataInputStream(
+                new BufferedInputStream(socket.getInputStream())
+            );
+            DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(socket.getOutputStream())
+            );
+            BatchRunner runner = new BatchRunner(new BuildOrder(in.readUTF()));
+            while (true) {
+                out.writeInt(REQUEST_WORK);
+                out.flush();
+                long firstSeed = in.readLong();
+                long lastSeed = in.readLong();
+                if (lastSeed < firstSeed) {
+                    return;  // The coordinator has no ranges left.
+                }
+                BatchStatistics stats = runner.run(firstSeed, lastSeed, threads);
+                out.writeInt(SEND_RESULT);
+                stats.write(out);
+            }
+        }
+    }
+}
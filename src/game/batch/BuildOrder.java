@@ -0,0 +1,201 @@
+package game.batch;
+
+import field.Field;
+import game.Game;
+import game.Option;
+import game.commands.OptionCommand;
+import game.options.BuyArcherTowerOption;
+import game.options.BuyBombTowerOption;
+import game.options.BuyLaserTowerOption;
+import game.options.BuySlingshotTowerOption;
+import game.options.BuyWizardTowerOption;
+import game.options.UpgradeOption;
+import java.util.ArrayList;
+import java.util.function.BiFunction;
+import location.Location;
+import towers.Tower;
+
+
+/**
+ * A scripted strategy that buys and upgrades towers in a fixed order.
+ *
+ * A build order is written as steps separated by spaces, for example
+ * `archer@0 bomb@1 upgrade@0`. Every step names an action and the index of
+ * the placeable location it is done on. The actions are `archer`, `bomb`,
+ * `laser`, `wizard`, `slingshot` and `upgrade`.
+ *
+ * The steps are done one by one, as soon as there is enough gold for them.
+ * Steps that can never be done anymore are skipped.
+ */
+public final class BuildOrder {
+    private static final String[] ACTIONS = {
+        "archer", "bomb", "laser", "wizard", "slingshot", "upgrade"
+    };
+    private static final ArrayList<BiFunction<Game, Field, Option>> OPTION_FACTORIES =
+        new ArrayList<>();
+
+    static {
+        OPTION_FACTORIES.add(BuyArcherTowerOption::new);
+        OPTION_FACTORIES.add(BuyBombTowerOption::new);
+        OPTION_FACTORIES.add(BuyLaserTowerOption::new);
+        OPTION_FACTORIES.add(BuyWizardTowerOption::new);
+        OPTION_FACTORIES.add(BuySlingshotTowerOption::new);
+        OPTION_FACTORIES.add(UpgradeOption::new);
+    }
+
+    private static final int UPGRADE = 5;  // The index of `upgrade` in `ACTIONS`.
+
+    private final int[] actions;
+    private final int[] locations;
+    private final String script;
+
+    /**
+     * Parses a build order.
+     *
+     * @param script                    The build order, see the class documentation.
+     * @throws IllegalArgumentException If the build order cannot be parsed.
+     */
+    public BuildOrder(String script) throws IllegalArgumentException {
+        String[] steps = script.trim().isEmpty() ? new String[0] : script.trim().split("\\s+");
+        this.actions = new int[steps.length];
+        this.locations = new int[steps.length];
+        this.script = script.trim();
+        for (int i = 0; i < steps.length; i++) {
+            String[] parts = steps[i].split("@");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException(
+                    String.format("'%s' is not a valid step.", steps[i])
+                );
+            }
+            this.actions[i] = actionIndex(parts[0]);
+            try {
+                this.locations[i] = Integer.parseInt(parts[1]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(
+                    String.format("'%s' is not a valid location index.", parts[1])
+                );
+            }
+            if (this.locations[i] < 0) {
+                throw new IllegalArgumentException("Location index cannot be negative.");
+            }
+        }
+    }
+
+    /**
+     * Returns the index of an action.
+     *
+     * @param action                    The name of the action.
+     * @return                          The index in `ACTIONS`.
+     * @throws IllegalArgumentException If the action does not exist.
+     */
+    private static int actionIndex(String action) throws IllegalArgumentException {
+        for (int i = 0; i < ACTIONS.length; i++) {
+            if (ACTIONS[i].equals(action)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException(String.format("'%s' is not a valid action.", action));
+    }
+
+    /**
+     * Returns the amount of steps.
+     *
+     * @return The amount of steps.
+     */
+    public int size() {
+        return this.actions.length;
+    }
+
+    @Override
+    public String toString() {
+        return this.script;
+    }
+
+    /**
+     * Plays this build order in a game.
+     * The options are created per game, so a build order can be shared between threads.
+     *
+     * @param game The game, which must already be set up.
+     * @return     The player.
+     */
+    public Player play(Game game) {
+        return new Player(game);
+    }
+
+    /**
+     * Keeps track of how far a single game is in the build order.
+     */
+    public final class Player {
+        private final Game game;
+        private final Option[] options;
+        private int nextStep;
+        private OptionCommand pending;  // The last submitted step, null when there is none.
+
+        private Player(Game game) {
+            this.game = game;
+            this.options = new Option[OPTION_FACTORIES.size()];
+            for (int i = 0; i < this.options.length; i++) {
+                this.options[i] = OPTION_FACTORIES.get(i).apply(game, game.field);
+            }
+            this.nextStep = 0;
+            this.pending = null;
+        }
+
+        /**
+         * Returns whether all steps are done.
+         *
+         * @return Whether all steps are done.
+         */
+        public boolean isDone() {
+            return this.nextStep >= BuildOrder.this.size();
+        }
+
+        /**
+         * Submits the next step as a command once it can be done.
+         * Should be called in between game ticks. A step is only submitted once
+         * the previous one has been applied, so every step sees the result of the one before.
+         */
+        public void act() {
+            if (this.pending != null && !this.pending.isApplied()) {
+                return;
+            }
+            this.pending = null;
+            while (!this.isDone()) {
+                int action = BuildOrder.this.actions[this.nextStep];
+                int index = BuildOrder.this.locations[this.nextStep];
+                if (index >= this.game.field.placeable.size()) {
+                    this.nextStep++;  // There is no such location on this field.
+                    continue;
+                }
+                Location location = this.game.field.placeable.get(index);
+                if (!this.canEverBeDone(action, index)) {
+                    this.nextStep++;
+                    continue;
+                }
+                Option option = this.options[action];
+                if (!option.shouldBeEnabled(location)) {
+                    return;  // Wait until there is enough gold.
+                }
+                this.pending = new OptionCommand(option, location);
+                this.game.submit(this.pending);
+                this.nextStep++;
+                return;
+            }
+        }
+
+        /**
+         * Returns whether a step can be done with enough gold.
+         *
+         * @param action The index of the action.
+         * @param slot   The slot of the location of the step.
+         * @return       Whether the step can be done with enough gold.
+         */
+        private boolean canEverBeDone(int action, int slot) {
+            Tower tower = this.game.field.towers[slot];
+            if (action == UPGRADE) {
+                return tower != null && tower.canUpgrade();
+            }
+            return tower == null;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package game.batch;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+
+/**
+ * Online statistics of a stream of values, using Welford's algorithm.
+ * No values are kept, so this uses the same memory for any amount of games.
+ */
+public final class RunningStatistics {
+    private long count;
+    private double mean;
+    private double squaredDifferences;  // The sum of squared differences from the mean.
+    private double min;
+    private double max;
+
+    /**
+     * Constructs empty statistics.
+     */
+    public RunningStatistics() {
+        this.count = 0;
+        this.mean = 0.0;
+        this.squaredDifferences = 0.0;
+        this.min = Double.POSITIVE_INFINITY;
+        this.max = Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * Adds a value.
+     *
+     * @param value The value.
+     */
+    public void add(double value) {
+        this.count++;
+        double delta = value - this.mean;
+        this.mean += delta / this.count;
+        this.squaredDifferences += delta * (value - this.mean);
+        this.min = Math.min(this.min, value);
+        this.max = Math.max(this.max, value);
+    }
+
+    /**
+     * Adds all values of other statistics, as if they were added one by one.
+     *
+     * @param other The other statistics.
+     */
+    public void merge(RunningStatistics other) {
+        if (other.count == 0) {
+            return;
+        }
+        long count = this.count + other.count;
+        double delta = other.mean - this.mean;
+        this.mean += delta * other.count / count;
+        this.squaredDifferences += other.squaredDifferences
+            + delta * delta * this.count * other.count / count;
+        this.count = count;
+        this.min = Math.min(this.min, other.min);
+        this.max = Math.max(this.max, other.max);
+    }
+
+    /**
+     * Returns the amount of values.
+     *
+     * @return The amount of values.
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns the mean.
+     *
+     * @return The mean, or NaN without any values.
+     */
+    public double getMean() {
+        return this.count == 0 ? Double.NaN : this.mean;
+    }
+
+    /**
+     * Returns the sample standard deviation.
+     *
+     * @return The standard deviation, or NaN with less than two values.
+     */
+    public double getStandardDeviation() {
+        if (this.count < 2) {
+            return Double.NaN;
+        }
+        return Math.sqrt(this.squaredDifferences / (this.count - 1));
+    }
+
+    /**
+     * Returns the smallest value.
+     *
+     * @return The smallest value, or NaN without any values.
+     */
+    public double getMin() {
+        return this.count == 0 ? Double.NaN : this.min;
+    }
+
+    /**
+     * Returns the largest value.
+     *
+     * @return The largest value, or NaN without any values.
+     */
+    public double getMax() {
+        return this.count == 0 ? Double.NaN : this.max;
+    }
+
+    /**
+     * Writes these statistics to a stream.
+     *
+     * @param out          The stream.
+     * @throws IOException If writing fails.
+     */
+    public void write(DataOutputStream out) throws IOException {
+        out.writeLong(this.count);
+        out.writeDouble(this.mean);
+        out.writeDouble(this.squaredDifferences);
+        out.writeDouble(this.min);
+        out.writeDouble(this.max);
+    }
+
+    /**
+     * Reads statistics written by `write`.
+     *
+     * @param in           The stream.
+     * @return             The statistics.
+     * @throws IOException If reading fails.
+     */
+    public static RunningStatistics read(DataInputStream in) throws IOException {
+        RunningStatistics stats = new RunningStatistics();
+        stats.count = in.readLong();
+        stats.mean = in.readDouble();
+        stats.squaredDifferences = in.readDouble();
+        stats.min = in.readDouble();
+        stats.max = in.readDouble();
+        return stats;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "mean %.2f, sd %.2f, min %.0f, max %.0f",
+            this.getMean(), this.getStandardDeviation(), this.getMin(), this.getMax()
+        );
+    }
+}
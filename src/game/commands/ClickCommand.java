@@ -0,0 +1,128 @@
+package game.commands;
+
+import field.Field;
+import game.Game;
+import game.Option;
+import java.util.ArrayList;
+import location.Location;
+
+
+/**
+ * A click of the mouse on the field.
+ * What was clicked on is only decided when the command is applied,
+ * so it always matches the state of the game at that tick.
+ */
+public final class ClickCommand implements Command {
+    private final Location location;
+
+    /**
+     * Constructs a click command.
+     * 
+     * @param location The location of the click in field pixels.
+     */
+    public ClickCommand(Location location) {
+        this.location = location;
+    }
+
+    @Override
+    public void apply(Game game) {
+        if (game.hasEnded()) {
+            // It is okay to perform a click when the game
+            // has not started, but not when it has ended.
+            return;
+        }
+        boolean calledCallback = this.checkClickedOption(game);
+        if (calledCallback) {
+            return;
+        }
+        this.checkClickedPlaceable(game);
+        this.checkClickedSpeedMultiplier(game);
+    }
+
+    /**
+     * Return the option that was clicked, or null if none was clicked.
+     * 
+     * @param game          The game.
+     * @param towerLocation The location of the placeable spot/tower.
+     * @return              The option that was clicked, or null if none was clicked.
+     */
+    private Option clickedOnOption(Game game, Location towerLocation) {
+        ArrayList<Option> options = game.getSelectedOptions();
+        for (int i = 0; i < options.size(); i++) {
+            Option option = options.get(i);
+            if (option.isHovering(this.location, towerLocation, i, options.size())) {
+                return option;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Check if the click is on an option and perform the callback if it is.
+     * 
+     * @param game The game.
+     * @return     Whether an option was clicked.
+     */
+    private boolean checkClickedOption(Game game) {
+        if (game.selectedLocation == null) {
+            return false;
+        }
+        Option option = this.clickedOnOption(game, game.selectedLocation);
+        if (option != null) {
+            option.callback(game.selectedLocation);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Return the placeable location that was clicked on, or null if it is not at any.
+     * 
+     * @param game The game.
+     * @return     The placeable location that was clicked on, or null if it is not at any.
+     */
+    private Location clickedOnPlaceable(Game game) {
+        for (Location placeable : game.field.placeable) {
+            if (placeable.inSameSquare(this.location, Field.SLOT_SIZE)) {
+                return placeable;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Check if the click is on a placeable spot and select said spot,
+     * or deselect it if it is already selected, or if it is not on any.
+     * 
+     * @param game The game.
+     */
+    private void checkClickedPlaceable(Game game) {
+        Location placeable = this.clickedOnPlaceable(game);
+        if (placeable == null) {
+            game.selectedLocation = null;
+            return;
+        }
+
+        if (game.selectedLocation == placeable) {
+            game.selectedLocation = null;
+        } else {
+            game.selectedLocation = placeable;
+        }
+    }
+
+    /**
+     * Check if the click is on the speed multiplier and switch the speed if it is.
+     * 
+     * @param game The game.
+     */
+    private void checkClickedSpeedMultiplier(Game game) {
+        if (this.location.inSameSquare(game.field.speedButtonLocation, Field.SPEED_BUTTON_SIZE)) {
+            game.switchSpeed();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Click at (%.2f, %.2f)", this.location.x, this.location.y);
+    }
+}
@@ -0,0 +1,19 @@
+package game.commands;
+
+import game.Game;
+
+
+/**
+ * A player action on a game.
+ *
+ * Commands can be submitted from any thread with `Game.submit`. The game applies
+ * them at the start of its next tick, so they never run halfway through a tick.
+ */
+public interface Command {
+    /**
+     * Applies this command, only called by the game itself.
+     * 
+     * @param game The game.
+     */
+    void apply(Game game);
+}
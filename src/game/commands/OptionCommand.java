@@ -0,0 +1,51 @@
+package game.commands;
+
+import game.Game;
+import game.Option;
+import location.Location;
+
+
+/**
+ * Chooses an option, like buying or upgrading a tower, on a placeable location.
+ * Does nothing if the option is not enabled by the time it is applied.
+ */
+public final class OptionCommand implements Command {
+    private final Option option;
+    private final Location location;
+    private volatile boolean applied;
+
+    /**
+     * Constructs an option command.
+     * 
+     * @param option   The option.
+     * @param location The placeable location.
+     */
+    public OptionCommand(Option option, Location location) {
+        this.option = option;
+        this.location = location;
+        this.applied = false;
+    }
+
+    /**
+     * Returns whether this command has been applied, enabled or not.
+     * 
+     * @return Whether this command has been applied.
+     */
+    public boolean isApplied() {
+        return this.applied;
+    }
+
+    @Override
+    public void apply(Game game) {
+        this.option.callback(this.location);
+        this.applied = true;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%s at (%.2f, %.2f)",
+            this.option.getClass().getSimpleName(), this.location.x, this.location.y
+        );
+    }
+}
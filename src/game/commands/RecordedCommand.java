@@ -0,0 +1,27 @@
+package game.commands;
+
+
+/**
+ * A command together with the tick it was applied at.
+ * Replaying these at the same ticks results in the same game.
+ */
+public final class RecordedCommand {
+    public final long tick;  // The amount of tick iterations that came before it.
+    public final Command command;
+
+    /**
+     * Constructs a recorded command.
+     * 
+     * @param tick    The tick the command was applied at.
+     * @param command The command.
+     */
+    public RecordedCommand(long tick, Command command) {
+        this.tick = tick;
+        this.command = command;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d: %s", this.tick, this.command);
+    }
+}
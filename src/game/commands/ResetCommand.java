@@ -0,0 +1,19 @@
+package game.commands;
+
+import game.Game;
+
+
+/**
+ * Resets the game, whatever state it is in.
+ */
+public final class ResetCommand implements Command {
+    @Override
+    public void apply(Game game) {
+        game.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "Reset";
+    }
+}
@@ -0,0 +1,26 @@
+package game.commands;
+
+import game.Game;
+
+
+/**
+ * Starts the game, or starts a new one if it has ended.
+ */
+public final class StartCommand implements Command {
+    @Override
+    public void apply(Game game) {
+        boolean gameEnded = game.hasEnded();
+        if (game.hasStarted() && !gameEnded) {
+            return;
+        } else if (gameEnded) {
+            game.reset();
+            return;
+        }
+        game.start();
+    }
+
+    @Override
+    public String toString() {
+        return "Start";
+    }
+}
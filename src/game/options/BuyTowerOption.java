@@ -64,7 +64,7 @@ public abstract class BuyTowerOption extends Option {
 
     @Override
     public boolean shouldBeEnabled(Location location) {
-        Tower tower = this.field.towers.getOrDefault(location, null);
+        Tower tower = this.field.getTower(location);
         if (tower != null) {
             return false;
         }
@@ -26,7 +26,7 @@ public final class SellOption extends Option {
 
     @Override
     public void callback(Location location) {
-        Tower tower = this.field.towers.getOrDefault(location, null);
+        Tower tower = this.field.getTower(location);
         if (tower == null) {
             return;
         }
@@ -44,7 +44,7 @@ public final class SellOption extends Option {
 
     @Override
     public boolean shouldBeEnabled(Location location) {
-        Tower tower = this.field.towers.getOrDefault(location, null);
+        Tower tower = this.field.getTower(location);
         if (tower == null) {
             return false;
         }
@@ -58,7 +58,7 @@ public final class SellOption extends Option {
 
     @Override
     public String getLabel(Location location) {
-        Tower tower = this.field.towers.getOrDefault(location, null);
+        Tower tower = this.field.getTower(location);
         if (tower == null) {
             return "You should not be able to see this..";
         }
@@ -27,7 +27,7 @@ public final class SwitchTargetOption extends Option {
 
     @Override
     public void callback(Location location) {
-        Tower tower = this.field.towers.getOrDefault(location, null);
+        Tower tower = this.field.getTower(location);
         if (tower == null) {
             return;
         }
@@ -40,7 +40,7 @@ public final class SwitchTargetOption extends Option {
 
     @Override
     public boolean shouldBeEnabled(Location location) {
-        Tower tower = this.field.towers.getOrDefault(location, null);
+        Tower tower = this.field.getTower(location);
         return tower instanceof RangeDamageTower;
     }
 
@@ -51,7 +51,7 @@ public final class SwitchTargetOption extends Option {
 
     @Override
     public String getLabel(Location location) {
-        Tower tower = this.field.towers.getOrDefault(location, null);
+        Tower tower = this.field.getTower(location);
         if (tower == null || !(tower instanceof RangeDamageTower)) {
             return "You should not be able to see this..";
         }
@@ -26,7 +26,7 @@ public final class UpgradeOption extends Option {
 
     @Override
     public void callback(Location location) {
-        Tower tower = this.field.towers.getOrDefault(location, null);
+        Tower tower = this.field.getTower(location);
         if (tower == null) {
             return;
         }
@@ -45,7 +45,7 @@ public final class UpgradeOption extends Option {
 
     @Override
     public boolean shouldBeEnabled(Location location) {
-        Tower tower = this.field.towers.getOrDefault(location, null);
+        Tower tower = this.field.getTower(location);
         if (tower == null) {
             return false;
         }
@@ -59,7 +59,7 @@ public final class UpgradeOption extends Option {
 
     @Override
     public String getLabel(Location location) {
-        Tower tower = this.field.towers.getOrDefault(location, null);
+        Tower tower = this.field.getTower(location);
         if (tower == null) {
             return "You should not be able to see this..";
         }
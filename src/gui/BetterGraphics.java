@@ -9,7 +9,7 @@ import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.Image;
 import java.io.File;
-import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.swing.ImageIcon;
 
 
@@ -162,7 +162,8 @@ public final class BetterGraphics {
         );
     }
 
-    private static final HashMap<String, Image> IMAGES = new HashMap<>();
+    // Shared by every frame, which may be painting on different threads.
+    private static final ConcurrentHashMap<String, Image> IMAGES = new ConcurrentHashMap<>();
 
     /**
      * Resolve the image path.
@@ -195,12 +196,7 @@ public final class BetterGraphics {
      */
     private Image getMaybeCachedImage(String imagePath) {
         imagePath = this.resolveImagePath(imagePath);
-        Image image = IMAGES.getOrDefault(imagePath, null);
-        if (image == null) {
-            image = new ImageIcon(imagePath).getImage();
-            IMAGES.put(imagePath, image);
-        }
-        return image;
+        return IMAGES.computeIfAbsent(imagePath, path -> new ImageIcon(path).getImage());
     }
 
     /**
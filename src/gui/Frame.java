@@ -7,12 +7,9 @@ import gui.actions.StartAction;
 import gui.mouse.Mouse;
 import java.awt.Dimension;
 import java.awt.Insets;
-import java.awt.event.ActionEvent;
-import java.awt.event.ActionListener;
 import javax.swing.Action;
 import javax.swing.JComponent;
 import javax.swing.JFrame;
-import javax.swing.Timer;
 
 
 /**
@@ -22,6 +19,8 @@ public class Frame extends JFrame {
     private Game game;
     public Mouse mouse;
     private Panel panel;
+    private GameLoop loop;
+    private final SnapshotBuffer snapshots;
 
     /**
      * The constructor.
@@ -31,6 +30,16 @@ public class Frame extends JFrame {
     public Frame(Game game) {
         super("Robot Rampage");
         this.game = game;
+        this.snapshots = new SnapshotBuffer();
+    }
+
+    /**
+     * Returns the buffer the simulation thread publishes its snapshots to.
+     * 
+     * @return The snapshot buffer.
+     */
+    public SnapshotBuffer getSnapshots() {
+        return this.snapshots;
     }
 
     /**
@@ -67,14 +76,8 @@ public class Frame extends JFrame {
         this.setVisible(true);
         this.setInitialSize();
 
-        new Timer(
-            1000 / this.game.ticksPerSecond,
-            new ActionListener() {
-                public void actionPerformed(ActionEvent evt) {
-                    tick();
-                }
-            }
-        ).start();
+        this.loop = new GameLoop(this.game, this, this.snapshots);
+        this.loop.start();
     }
 
     /**
@@ -101,12 +104,4 @@ public class Frame extends JFrame {
         this.addKeyBinding("ENTER", new StartAction(this.game));
         this.addKeyBinding("SPACE", new DebugAction(this.game));
     }
-
-    /**
-     * Handle a game tick.
-     */
-    private void tick() {
-        this.game.tick();
-        this.repaint();
-    }
 }
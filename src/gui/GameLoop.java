@@ -0,0 +1,204 @@
+package gui;
+
+import game.Game;
+import java.awt.DisplayMode;
+import java.awt.GraphicsConfiguration;
+import java.util.concurrent.locks.LockSupport;
+import javax.swing.JOptionPane;
+import javax.swing.SwingUtilities;
+
+
+/**
+ * The simulation thread, which drives the game at a fixed timestep.
+ *
+ * The time that has passed is added to an accumulator and the game ticks once for
+ * every full timestep in it, so the game keeps up with the wall clock however long
+ * a frame takes. When the game falls too far behind, at most `MAX_CATCH_UP_TICKS`
+ * ticks are done at once and the rest of the backlog is dropped, so a long pause
+ * does not freeze the screen while the game catches up. At the uncapped speed
+ * the game ticks as often as it can for the duration of one timestep instead.
+ *
+ * After the ticks a snapshot of the game is published for the painters, so painting
+ * never has to wait for the simulation. Repaints are requested at the refresh rate
+ * of the display rather than the tick rate, the painters interpolate in between.
+ * Input never changes the game directly, it is submitted as commands that the game
+ * applies at the start of a tick on this thread, so the game needs no locking.
+ *
+ * When the game throws, the loop stops and the error is shown to the player,
+ * instead of the thread dying while the last snapshot stays on screen.
+ */
+public class GameLoop implements Runnable {
+    private static final int MAX_CATCH_UP_TICKS = 10;
+    private static final int DEFAULT_FRAMES_PER_SECOND = 60;
+    private static final int MAX_FRAMES_PER_SECOND = 240;
+
+    private final Game game;
+    private final Frame frame;
+    private final SnapshotBuffer snapshots;
+    private final long nanosPerTick;
+    private long nanosPerFrame;
+    private long lastPublish;
+    private volatile boolean running;
+    private Thread thread;
+
+    /**
+     * The constructor.
+     * 
+     * @param game      The game.
+     * @param frame     The frame to repaint.
+     * @param snapshots The buffer to publish the snapshots to.
+     */
+    public GameLoop(Game game, Frame frame, SnapshotBuffer snapshots) {
+        this.game = game;
+        this.frame = frame;
+        this.snapshots = snapshots;
+        this.nanosPerTick = 1_000_000_000L / game.ticksPerSecond;
+        this.nanosPerFrame = 1_000_000_000L / DEFAULT_FRAMES_PER_SECOND;
+        this.running = false;
+    }
+
+    /**
+     * Returns the refresh rate of the display the frame is on.
+     * 
+     * @return The refresh rate in frames per second.
+     */
+    private int getFramesPerSecond() {
+        GraphicsConfiguration configuration = this.frame.getGraphicsConfiguration();
+        if (configuration == null) {
+            return DEFAULT_FRAMES_PER_SECOND;
+        }
+        int refreshRate = configuration.getDevice().getDisplayMode().getRefreshRate();
+        if (refreshRate == DisplayMode.REFRESH_RATE_UNKNOWN) {
+            return DEFAULT_FRAMES_PER_SECOND;
+        }
+        return Math.min(refreshRate, MAX_FRAMES_PER_SECOND);
+    }
+
+    /**
+     * Starts the loop on its own thread.
+     */
+    public void start() {
+        if (this.running) {
+            return;
+        }
+        this.running = true;
+        this.nanosPerFrame = 1_000_000_000L / this.getFramesPerSecond();
+        this.thread = new Thread(this, "Simulation");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Stops the loop after the current iteration.
+     */
+    public void stop() {
+        this.running = false;
+        if (this.thread != null) {
+            LockSupport.unpark(this.thread);
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            this.loop();
+        } catch (RuntimeException | Error e) {
+            this.crash(e);
+        }
+    }
+
+    /**
+     * Stops the loop because of an error and reports it.
+     * 
+     * @param error The error that stopped the loop.
+     */
+    private void crash(Throwable error) {
+        this.running = false;
+        System.err.println("The simulation stopped because of an error:");
+        error.printStackTrace();
+        SwingUtilities.invokeLater(() -> {
+            this.frame.setTitle(this.frame.getTitle() + " (stopped)");
+            JOptionPane.showMessageDialog(
+                this.frame,
+                "The simulation stopped because of an error:\n" + error,
+                this.frame.getTitle(),
+                JOptionPane.ERROR_MESSAGE
+            );
+        });
+    }
+
+    /**
+     * Ticks the game and publishes snapshots until the loop is stopped.
+     */
+    private void loop() {
+        this.lastPublish = System.nanoTime();
+        this.publish();
+        this.frame.repaint();
+
+        long previous = System.nanoTime();
+        long accumulator = 0;
+        long nextFrame = previous;
+        while (this.running) {
+            long now = System.nanoTime();
+            accumulator += now - previous;
+            previous = now;
+
+            if (now - nextFrame >= 0) {
+                this.frame.repaint();
+                // Skip frames that were missed instead of requesting them all at once.
+                nextFrame = Math.max(nextFrame + this.nanosPerFrame, now);
+            }
+
+            if (this.game.getSpeed().isUncapped()) {
+                this.tickUncapped(now + this.nanosPerTick);
+                accumulator = 0;
+                continue;
+            }
+
+            int ticks = (int) Math.min(accumulator / this.nanosPerTick, MAX_CATCH_UP_TICKS);
+            accumulator -= ticks * this.nanosPerTick;
+            if (accumulator >= this.nanosPerTick) {
+                // Too far behind, give up on the rest of the backlog.
+                accumulator %= this.nanosPerTick;
+            }
+            if (ticks > 0) {
+                for (int i = 0; i < ticks; i++) {
+                    this.game.tick();
+                }
+                this.publish();
+            }
+
+            long untilNextTick = this.nanosPerTick - accumulator;
+            long untilNextFrame = nextFrame - System.nanoTime();
+            LockSupport.parkNanos(Math.min(untilNextTick, untilNextFrame));
+        }
+    }
+
+    /**
+     * Ticks the game as often as possible until a deadline.
+     * 
+     * @param deadline The deadline in `System.nanoTime` time.
+     */
+    private void tickUncapped(long deadline) {
+        do {
+            this.game.tick();
+        } while (this.game.isRunning() && System.nanoTime() < deadline);
+        this.publish();
+        if (!this.game.isRunning()) {
+            // Nothing to simulate, do not spin.
+            LockSupport.parkNanos(Math.max(0, deadline - System.nanoTime()));
+        }
+    }
+
+    /**
+     * Publishes a snapshot of the game.
+     */
+    private void publish() {
+        long now = System.nanoTime();
+        this.snapshots.getWriteSnapshot().capture(
+            this.game, this.snapshots.getPublishedSnapshot(), now, this.lastPublish
+        );
+        this.snapshots.publish();
+        this.lastPublish = now;
+    }
+}
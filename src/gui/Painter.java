@@ -24,6 +24,28 @@ public abstract class Painter {
         this.panel = panel;
     }
 
+    /**
+     * Returns the snapshot of the game that is being painted.
+     * The game itself belongs to the simulation thread, so apart from
+     * things that never change, like the size of the field, painters
+     * should only read from this snapshot.
+     * 
+     * @return The snapshot.
+     */
+    protected WorldSnapshot snapshot() {
+        return this.panel.getSnapshot();
+    }
+
+    /**
+     * Returns how far the painting is between the previous snapshot and the current one,
+     * to be used with `WorldSnapshot.lerp`.
+     * 
+     * @return The alpha in [0, 1].
+     */
+    protected double alpha() {
+        return this.panel.getAlpha();
+    }
+
     /**
      * Method to paint whatever this painter is supposed to paint.
      * 
@@ -2,6 +2,7 @@ package gui;
 
 import game.Game;
 import gui.painters.BackgroundPainter;
+import gui.painters.BeamPainter;
 import gui.painters.EnemyPainter;
 import gui.painters.GrassPainter;
 import gui.painters.LosePainter;
@@ -32,6 +33,8 @@ public class Panel extends JPanel {
     private Frame frame;
     private Game game;
     private ArrayList<Painter> painters;
+    private WorldSnapshot snapshot;  // The snapshot that is being painted.
+    private double alpha;            // How far the painting is towards `snapshot`.
 
     /**
      * The constructor.
@@ -49,6 +52,8 @@ public class Panel extends JPanel {
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
         this.checkDimensions();
+        this.snapshot = this.frame.getSnapshots().read();
+        this.alpha = this.snapshot.getAlpha(System.nanoTime());
 
         Graphics2D g2d = (Graphics2D) g;
 
@@ -66,6 +71,24 @@ public class Panel extends JPanel {
         }
     }
 
+    /**
+     * Returns the snapshot that is being painted.
+     * 
+     * @return The snapshot.
+     */
+    public WorldSnapshot getSnapshot() {
+        return this.snapshot;
+    }
+
+    /**
+     * Returns how far the painting is between the previous snapshot and the current one.
+     * 
+     * @return The alpha in [0, 1].
+     */
+    public double getAlpha() {
+        return this.alpha;
+    }
+
     /**
      * Initialize the painters, order matters.
      */
@@ -78,6 +101,7 @@ public class Panel extends JPanel {
         this.painters.add(new TowerPainter(this.game, this.frame, this));
         this.painters.add(new EnemyPainter(this.game, this.frame, this));
         this.painters.add(new ProjectilePainter(this.game, this.frame, this));
+        this.painters.add(new BeamPainter(this.game, this.frame, this));
         this.painters.add(new SelectedTowerPainter(this.game, this.frame, this));
         this.painters.add(new SideLabelPainter(this.game, this.frame, this));
         this.painters.add(new WinPainter(this.game, this.frame, this));
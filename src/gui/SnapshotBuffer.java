@@ -0,0 +1,70 @@
+package gui;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * A triple buffer of snapshots between the simulation thread and the painters.
+ *
+ * The writer always fills its own snapshot and swaps it with the middle one when done.
+ * The reader swaps the middle one with its own when a newer one was published.
+ * Neither side ever waits for the other, and the snapshot a side holds is
+ * never touched by the other side.
+ */
+public final class SnapshotBuffer {
+    private static final int INDEX_MASK = 0b011;
+    private static final int FRESH = 0b100;  // Set when the middle snapshot has not been read.
+
+    private final WorldSnapshot[] snapshots = {
+        new WorldSnapshot(), new WorldSnapshot(), new WorldSnapshot()
+    };
+    private final AtomicInteger middle = new AtomicInteger(2);
+    private int writeIndex = 0;  // Only used by the writer.
+    private int readIndex = 1;   // Only used by the reader.
+    private int publishedIndex = -1;  // Only used by the writer, -1 before the first publish.
+
+    /**
+     * Returns the snapshot the writer may fill.
+     * Only to be called by the writer.
+     *
+     * @return The snapshot to fill.
+     */
+    public WorldSnapshot getWriteSnapshot() {
+        return this.snapshots[this.writeIndex];
+    }
+
+    /**
+     * Returns the snapshot the writer published last.
+     * The reader may be reading it as well, but nobody writes to it until
+     * the writer has published the snapshot it is filling now.
+     * Only to be called by the writer.
+     *
+     * @return The last published snapshot, or null if nothing was published yet.
+     */
+    public WorldSnapshot getPublishedSnapshot() {
+        return this.publishedIndex == -1 ? null : this.snapshots[this.publishedIndex];
+    }
+
+    /**
+     * Makes the filled snapshot available to the reader.
+     * Only to be called by the writer.
+     */
+    public void publish() {
+        this.publishedIndex = this.writeIndex;
+        this.writeIndex = this.middle.getAndSet(this.writeIndex | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Returns the newest published snapshot.
+     * It stays valid until the next call of this method.
+     * Only to be called by the reader.
+     *
+     * @return The newest snapshot.
+     */
+    public WorldSnapshot read() {
+        if ((this.middle.get() & FRESH) != 0) {
+            this.readIndex = this.middle.getAndSet(this.readIndex) & INDEX_MASK;
+        }
+        return this.snapshots[this.readIndex];
+    }
+}
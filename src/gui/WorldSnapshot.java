@@ -0,0 +1,453 @@
+package gui;
+
+import enemies.Enemy;
+import enemies.EnemyStore;
+import enemies.HandleList;
+import game.Game;
+import game.Option;
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.Arrays;
+import location.Location;
+import towers.RangeDamageTower;
+import towers.Tower;
+import towers.implementations.LaserTower;
+import towers.projectile.Beam;
+import towers.projectile.ImageProjectile;
+import towers.projectile.LineProjectile;
+
+
+/**
+ * Everything the painters need of the game at one moment.
+ *
+ * A snapshot is filled by the simulation thread and then handed to the painters
+ * through a `SnapshotBuffer`. From that moment on it is never changed until the
+ * painters have let go of it, so the painters can read it without any locking.
+ * Snapshots are reused, the arrays only grow when there is more to hold.
+ *
+ * Every moving entity also holds where it was in the previous snapshot, so the
+ * painters can move it smoothly in between with `lerp` and the alpha of `getAlpha`.
+ * Enemies and projectiles are matched with the previous snapshot by their id.
+ */
+public final class WorldSnapshot {
+    private static final int INITIAL_CAPACITY = 64;
+
+    // When this snapshot was published and how long after the previous one, in nanoseconds.
+    public long publishedAt;
+    public long interval;
+
+    // The state of the game.
+    public boolean started;
+    public boolean won;
+    public boolean lost;
+    public Game.Speed speed;
+    public int gold;
+    public int lives;
+    public int waveNumber;
+    public int maxWave;
+    public boolean endless;
+    public int waveValue;
+    public int exp;
+    public int enemyKills;
+    public int goldSpent;
+    public ArrayList<Location> path;  // Never changed once the field is initialized.
+
+    // One entry per placeable location, with or without a tower.
+    public int placeableCount;
+    public double[] placeableXs = new double[0];
+    public double[] placeableYs = new double[0];
+    public String[] towerImagePaths = new String[0];  // The unplaced image when empty.
+    public String[][] towerInfos = new String[0][];   // null when there is no tower.
+                                                      // Shared with the tower, never modify.
+    public double[] towerRanges = new double[0];      // NaN when the tower has no range.
+    public int selectedIndex;                         // -1 when nothing is selected.
+
+    // The options of the selected location.
+    public int optionCount;
+    public double[] optionXs = new double[0];
+    public double[] optionYs = new double[0];
+    public String[] optionImagePaths = new String[0];
+    public String[] optionLabels = new String[0];
+    public boolean[] optionsEnabled = new boolean[0];
+
+    // Only used while capturing, so the options are only built again when the selection,
+    // the selected tower or its info has changed. Only whether they are enabled changes
+    // with every snapshot.
+    private final ArrayList<Option> selectedOptions = new ArrayList<>();
+    private Location optionsLocation;
+    private Tower optionsTower;
+    private String[] optionsInfo;
+
+    // The enemies, in the order they were spawned, so their ids only increase.
+    public int enemyCount;
+    public int[] enemyIds = new int[INITIAL_CAPACITY];
+    public int[] enemyDrawOrder = new int[INITIAL_CAPACITY];  // Indices, least traveled first.
+    public double[] enemyXs = new double[INITIAL_CAPACITY];
+    public double[] enemyYs = new double[INITIAL_CAPACITY];
+    public double[] enemyPreviousXs = new double[INITIAL_CAPACITY];
+    public double[] enemyPreviousYs = new double[INITIAL_CAPACITY];
+    public double[] enemySizes = new double[INITIAL_CAPACITY];
+    public double[] enemyHealths = new double[INITIAL_CAPACITY];  // As a fraction of the max.
+    public String[] enemyImagePaths = new String[INITIAL_CAPACITY];
+
+    // Only used while capturing. Ids are only unique within a store,
+    // and the field gets a new store when the game is reset.
+    private EnemyStore enemyStore;
+    private final HandleList drawOrder = new HandleList();
+
+    // The projectiles, first the images at (x1, y1) and then the lines from (x1, y1) to (x2, y2).
+    // Both parts are in the order the projectiles were fired, so their ids only increase.
+    public int projectileCount;
+    public int imageProjectileCount;  // The lines start at this index.
+    public int[] projectileIds = new int[INITIAL_CAPACITY];
+    public double[] projectileX1s = new double[INITIAL_CAPACITY];
+    public double[] projectileY1s = new double[INITIAL_CAPACITY];
+    public double[] projectileX2s = new double[INITIAL_CAPACITY];
+    public double[] projectileY2s = new double[INITIAL_CAPACITY];
+    public double[] projectilePreviousX1s = new double[INITIAL_CAPACITY];
+    public double[] projectilePreviousY1s = new double[INITIAL_CAPACITY];
+    public double[] projectilePreviousX2s = new double[INITIAL_CAPACITY];
+    public double[] projectilePreviousY2s = new double[INITIAL_CAPACITY];
+    public double[] projectileSizes = new double[INITIAL_CAPACITY];  // Line width for lines.
+    public String[] projectileImagePaths = new String[INITIAL_CAPACITY];
+    public Color[] projectileColors = new Color[INITIAL_CAPACITY];
+
+    // The beams that are on, from their tower at (x1, y1) to their target at (x2, y2).
+    // Only the end moves, together with the target.
+    public int beamCount;
+    public double[] beamX1s = new double[INITIAL_CAPACITY];
+    public double[] beamY1s = new double[INITIAL_CAPACITY];
+    public double[] beamX2s = new double[INITIAL_CAPACITY];
+    public double[] beamY2s = new double[INITIAL_CAPACITY];
+    public double[] beamPreviousX2s = new double[INITIAL_CAPACITY];
+    public double[] beamPreviousY2s = new double[INITIAL_CAPACITY];
+    public double[] beamWidths = new double[INITIAL_CAPACITY];
+    public Color[] beamColors = new Color[INITIAL_CAPACITY];
+
+    /**
+     * Returns how far the painters are between the previous snapshot and this one.
+     * The painters stay one snapshot behind, so there always is a next position
+     * to move towards.
+     *
+     * @param now The current `System.nanoTime`.
+     * @return    The alpha in [0, 1], 0 is the previous snapshot and 1 is this one.
+     */
+    public double getAlpha(long now) {
+        if (this.interval <= 0) {
+            return 1.0;
+        }
+        return Math.max(0.0, Math.min(1.0, (now - this.publishedAt) / (double) this.interval));
+    }
+
+    /**
+     * Interpolates between a previous and a current value.
+     *
+     * @param previous The previous value.
+     * @param current  The current value.
+     * @param alpha    The alpha of `getAlpha`.
+     * @return         The interpolated value.
+     */
+    public static double lerp(double previous, double current, double alpha) {
+        return previous + (current - previous) * alpha;
+    }
+
+    /**
+     * Copies the state of a game into this snapshot.
+     * The caller must make sure the game does not change in the meantime.
+     *
+     * @param game             The game.
+     * @param previous         The previous snapshot, or null if there is none.
+     *                         Only read, so the painters may still be using it.
+     * @param publishedAt      The `System.nanoTime` at which this snapshot is published.
+     * @param previousPublish  The `System.nanoTime` of the previous snapshot.
+     */
+    public void capture(
+        Game game,
+        WorldSnapshot previous,
+        long publishedAt,
+        long previousPublish
+    ) {
+        this.publishedAt = publishedAt;
+        this.interval = publishedAt - previousPublish;
+        this.started = game.hasStarted();
+        this.won = game.hasWon();
+        this.lost = game.hasLost();
+        this.speed = game.getSpeed();
+        this.gold = game.getGold();
+        this.lives = game.getLives();
+        this.waveNumber = game.waveHandler.getWaveNumber();
+        this.maxWave = game.waveHandler.getMaxWave();
+        this.endless = game.getEndlessSettings() != null;
+        this.waveValue = game.waveHandler.getWaveValue();
+        this.exp = game.getExp();
+        this.enemyKills = game.getEnemyKills();
+        this.goldSpent = game.getGoldSpent();
+        this.path = game.field.path;
+
+        this.captureTowers(game);
+        this.captureOptions(game);
+        // Before the beams, which end where their target is drawn.
+        this.captureEnemies(game, previous);
+        this.captureBeams(game, previous);
+        this.captureProjectiles(game, previous);
+    }
+
+    private void captureTowers(Game game) {
+        final ArrayList<Location> placeable = game.field.placeable;
+        final int count = placeable.size();
+        if (this.placeableXs.length < count) {
+            this.placeableXs = new double[count];
+            this.placeableYs = new double[count];
+            this.towerImagePaths = new String[count];
+            this.towerInfos = new String[count][];
+            this.towerRanges = new double[count];
+        }
+        this.placeableCount = count;
+        this.selectedIndex = -1;
+        for (int i = 0; i < count; i++) {
+            Location location = placeable.get(i);
+            Tower tower = game.field.towers[i];
+            this.placeableXs[i] = location.x;
+            this.placeableYs[i] = location.y;
+            this.towerImagePaths[i] = tower == null
+                ? Tower.UNPLACED_IMAGE_PATH
+                : tower.getImagePath();
+            this.towerInfos[i] = tower == null ? null : tower.getCachedInfo();
+            this.towerRanges[i] = tower instanceof RangeDamageTower
+                ? ((RangeDamageTower) tower).getRange()
+                : Double.NaN;
+            if (location == game.selectedLocation) {
+                this.selectedIndex = i;
+            }
+        }
+    }
+
+    private void captureOptions(Game game) {
+        final Location location = game.selectedLocation;
+        final Tower tower = location == null ? null : game.field.getTower(location);
+        final String[] info = tower == null ? null : tower.getCachedInfo();
+        if (
+            location != this.optionsLocation
+                || tower != this.optionsTower
+                || info != this.optionsInfo
+        ) {
+            this.buildOptions(game, location);
+            this.optionsLocation = location;
+            this.optionsTower = tower;
+            this.optionsInfo = info;
+        }
+        for (int i = 0; i < this.optionCount; i++) {
+            this.optionsEnabled[i] = this.selectedOptions.get(i).shouldBeEnabled(location);
+        }
+    }
+
+    private void buildOptions(Game game, Location location) {
+        final ArrayList<Option> options = this.selectedOptions;
+        options.clear();
+        game.addSelectedOptions(options);
+        final int count = options.size();
+        if (this.optionXs.length < count) {
+            this.optionXs = new double[count];
+            this.optionYs = new double[count];
+            this.optionImagePaths = new String[count];
+            this.optionLabels = new String[count];
+            this.optionsEnabled = new boolean[count];
+        }
+        this.optionCount = count;
+        for (int i = 0; i < count; i++) {
+            Option option = options.get(i);
+            Location optionLocation = option.getLocation(location, i, count);
+            this.optionXs[i] = optionLocation.x;
+            this.optionYs[i] = optionLocation.y;
+            this.optionImagePaths[i] = option.getImagePath();
+            this.optionLabels[i] = option.getLabel(location);
+        }
+    }
+
+    private void captureEnemies(Game game, WorldSnapshot previous) {
+        final EnemyStore store = game.field.enemyStore;
+        final int count = store.size();
+        if (this.enemyXs.length < count) {
+            int capacity = Math.max(count, this.enemyXs.length * 2);
+            this.enemyIds = Arrays.copyOf(this.enemyIds, capacity);
+            this.enemyDrawOrder = Arrays.copyOf(this.enemyDrawOrder, capacity);
+            this.enemyXs = Arrays.copyOf(this.enemyXs, capacity);
+            this.enemyYs = Arrays.copyOf(this.enemyYs, capacity);
+            this.enemyPreviousXs = Arrays.copyOf(this.enemyPreviousXs, capacity);
+            this.enemyPreviousYs = Arrays.copyOf(this.enemyPreviousYs, capacity);
+            this.enemySizes = Arrays.copyOf(this.enemySizes, capacity);
+            this.enemyHealths = Arrays.copyOf(this.enemyHealths, capacity);
+            this.enemyImagePaths = Arrays.copyOf(this.enemyImagePaths, capacity);
+        }
+        this.enemyCount = count;
+        this.enemyStore = store;
+        // Both snapshots are ordered by id, so the previous position
+        // of every enemy is found in a single pass over both.
+        final int previousCount = previous == null || previous.enemyStore != store
+            ? 0
+            : previous.enemyCount;
+        int p = 0;
+        for (int i = 0; i < count; i++) {
+            final int id = store.id(i);
+            final double x = store.x(i) + store.drawOffsetX(i);
+            final double y = store.y(i) + store.drawOffsetY(i);
+            this.enemyIds[i] = id;
+            this.enemyXs[i] = x;
+            this.enemyYs[i] = y;
+            while (p < previousCount && previous.enemyIds[p] < id) {
+                p++;
+            }
+            final boolean isNew = p == previousCount || previous.enemyIds[p] != id;
+            this.enemyPreviousXs[i] = isNew ? x : previous.enemyXs[p];
+            this.enemyPreviousYs[i] = isNew ? y : previous.enemyYs[p];
+            this.enemySizes[i] = store.type(i).size;
+            this.enemyHealths[i] = Math.max(0.0, Math.min(1.0,
+                store.health(i) / (double) store.maxHealth(i)
+            ));
+            this.enemyImagePaths[i] = store.type(i).imagePath;
+        }
+
+        // Enemies that have traveled further are drawn on top.
+        // The index of an enemy in this snapshot is its handle.
+        final HandleList drawOrder = this.drawOrder;
+        game.field.progressIndex.writeOrdered(drawOrder);
+        for (int i = 0; i < drawOrder.size(); i++) {
+            this.enemyDrawOrder[i] = drawOrder.get(i);
+        }
+    }
+
+    private void captureBeams(Game game, WorldSnapshot previous) {
+        final ArrayList<LaserTower> towers = game.field.laserTowers;
+        final int count = towers.size();
+        if (this.beamX1s.length < count) {
+            int capacity = Math.max(count, this.beamX1s.length * 2);
+            this.beamX1s = Arrays.copyOf(this.beamX1s, capacity);
+            this.beamY1s = Arrays.copyOf(this.beamY1s, capacity);
+            this.beamX2s = Arrays.copyOf(this.beamX2s, capacity);
+            this.beamY2s = Arrays.copyOf(this.beamY2s, capacity);
+            this.beamPreviousX2s = Arrays.copyOf(this.beamPreviousX2s, capacity);
+            this.beamPreviousY2s = Arrays.copyOf(this.beamPreviousY2s, capacity);
+            this.beamWidths = Arrays.copyOf(this.beamWidths, capacity);
+            this.beamColors = Arrays.copyOf(this.beamColors, capacity);
+        }
+        final boolean samePrevious = previous != null && previous.enemyStore == this.enemyStore;
+        int index = 0;
+        for (int i = 0; i < count; i++) {
+            LaserTower tower = towers.get(i);
+            Beam beam = tower.beam;
+            if (!beam.isActive()) {
+                continue;
+            }
+            // The end follows the target exactly the way the enemy painter draws it.
+            Location start = tower.getLocation();
+            Enemy target = beam.getTarget();
+            final int handle = target.getHandle();
+            final double x = this.enemyXs[handle];
+            final double y = this.enemyYs[handle];
+            final int p = samePrevious
+                ? Arrays.binarySearch(previous.enemyIds, 0, previous.enemyCount, target.id)
+                : -1;
+            this.beamX1s[index] = start.x;
+            this.beamY1s[index] = start.y;
+            this.beamX2s[index] = x;
+            this.beamY2s[index] = y;
+            this.beamPreviousX2s[index] = p < 0 ? x : previous.enemyXs[p];
+            this.beamPreviousY2s[index] = p < 0 ? y : previous.enemyYs[p];
+            this.beamWidths[index] = beam.width;
+            this.beamColors[index] = beam.color;
+            index++;
+        }
+        this.beamCount = index;
+    }
+
+    private void captureProjectiles(Game game, WorldSnapshot previous) {
+        final ArrayList<ImageProjectile> imageProjectiles = game.field.imageProjectiles;
+        final ArrayList<LineProjectile> lineProjectiles = game.field.lineProjectiles;
+        final int count = imageProjectiles.size() + lineProjectiles.size();
+        if (this.projectileX1s.length < count) {
+            int capacity = Math.max(count, this.projectileX1s.length * 2);
+            this.projectileIds = Arrays.copyOf(this.projectileIds, capacity);
+            this.projectileX1s = Arrays.copyOf(this.projectileX1s, capacity);
+            this.projectileY1s = Arrays.copyOf(this.projectileY1s, capacity);
+            this.projectileX2s = Arrays.copyOf(this.projectileX2s, capacity);
+            this.projectileY2s = Arrays.copyOf(this.projectileY2s, capacity);
+            this.projectilePreviousX1s = Arrays.copyOf(this.projectilePreviousX1s, capacity);
+            this.projectilePreviousY1s = Arrays.copyOf(this.projectilePreviousY1s, capacity);
+            this.projectilePreviousX2s = Arrays.copyOf(this.projectilePreviousX2s, capacity);
+            this.projectilePreviousY2s = Arrays.copyOf(this.projectilePreviousY2s, capacity);
+            this.projectileSizes = Arrays.copyOf(this.projectileSizes, capacity);
+            this.projectileImagePaths = Arrays.copyOf(this.projectileImagePaths, capacity);
+            this.projectileColors = Arrays.copyOf(this.projectileColors, capacity);
+        }
+        int index = 0;
+        int p = 0;
+        int previousEnd = previous == null ? 0 : previous.imageProjectileCount;
+        for (ImageProjectile projectile : imageProjectiles) {
+            Location location = projectile.getLocation();
+            if (location == null) {
+                continue;  // Has not moved yet.
+            }
+            double y = location.y;
+            if (projectile.maxCurve > 0) {
+                y -= projectile.maxCurve * Math.sin(projectile.getPercentage() * Math.PI);
+            }
+            this.projectileX1s[index] = location.x;
+            this.projectileY1s[index] = y;
+            this.projectileX2s[index] = location.x;
+            this.projectileY2s[index] = y;
+            this.projectileSizes[index] = projectile.size;
+            this.projectileImagePaths[index] = projectile.getImagePath();
+            this.projectileColors[index] = null;
+            this.projectileIds[index] = projectile.id;
+            p = this.findPrevious(previous, p, previousEnd, index);
+            index++;
+        }
+        this.imageProjectileCount = index;
+        p = previousEnd;
+        previousEnd = previous == null ? 0 : previous.projectileCount;
+        for (LineProjectile projectile : lineProjectiles) {
+            Location start = projectile.getSourceLocation();
+            Location end = projectile.getTargetLocation();
+            this.projectileX1s[index] = start.x;
+            this.projectileY1s[index] = start.y;
+            this.projectileX2s[index] = end.x;
+            this.projectileY2s[index] = end.y;
+            this.projectileSizes[index] = projectile.lineWidth;
+            this.projectileImagePaths[index] = null;
+            this.projectileColors[index] = projectile.lineColor;
+            this.projectileIds[index] = projectile.id;
+            p = this.findPrevious(previous, p, previousEnd, index);
+            index++;
+        }
+        this.projectileCount = index;
+    }
+
+    /**
+     * Fills in where a projectile was in the previous snapshot, or where it is now
+     * if it was not in there. The ids in both parts only increase, so the search
+     * goes on from where the previous projectile was found.
+     *
+     * @param previous The previous snapshot, or null if there is none.
+     * @param from     The index in the previous snapshot to search from.
+     * @param end      The end of the part of the previous snapshot to search in.
+     * @param index    The index of the projectile in this snapshot.
+     * @return         The index to search from for the next projectile.
+     */
+    private int findPrevious(WorldSnapshot previous, int from, int end, int index) {
+        final int id = this.projectileIds[index];
+        int p = from;
+        while (p < end && previous.projectileIds[p] < id) {
+            p++;
+        }
+        final boolean isNew = p == end || previous.projectileIds[p] != id;
+        this.projectilePreviousX1s[index] = isNew
+            ? this.projectileX1s[index] : previous.projectileX1s[p];
+        this.projectilePreviousY1s[index] = isNew
+            ? this.projectileY1s[index] : previous.projectileY1s[p];
+        this.projectilePreviousX2s[index] = isNew
+            ? this.projectileX2s[index] : previous.projectileX2s[p];
+        this.projectilePreviousY2s[index] = isNew
+            ? this.projectileY2s[index] : previous.projectileY2s[p];
+        return p;
+    }
+}
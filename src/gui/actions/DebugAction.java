@@ -1,6 +1,7 @@
 package gui.actions;
 
 import game.Game;
+import game.commands.ResetCommand;
 import java.awt.event.ActionEvent;
 import javax.swing.AbstractAction;
 
@@ -22,6 +23,6 @@ public class DebugAction extends AbstractAction {
 
     @Override
     public void actionPerformed(ActionEvent e) {
-        this.game.reset();    
+        this.game.submit(new ResetCommand());
     }
 }
@@ -1,6 +1,7 @@
 package gui.actions;
 
 import game.Game;
+import game.commands.StartCommand;
 import java.awt.event.ActionEvent;
 import javax.swing.AbstractAction;
 
@@ -22,13 +23,6 @@ public class StartAction extends AbstractAction {
 
     @Override
     public void actionPerformed(ActionEvent e) {
-        boolean gameEnded = this.game.hasEnded();
-        if (this.game.hasStarted() && !gameEnded) {
-            return;
-        } else if (gameEnded) {
-            this.game.reset();
-            return;
-        }
-        this.game.start();    
+        this.game.submit(new StartCommand());
     }
 }
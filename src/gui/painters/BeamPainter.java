@@ -0,0 +1,41 @@
+package gui.painters;
+
+import game.Game;
+import gui.BetterGraphics;
+import gui.Frame;
+import gui.Painter;
+import gui.Panel;
+import gui.WorldSnapshot;
+
+
+/**
+ * The beam painter class.
+ */
+public final class BeamPainter extends Painter {
+    /**
+     * The constructor.
+     * 
+     * @param game  The game.
+     * @param frame The frame.
+     * @param panel The panel.
+     */
+    public BeamPainter(Game game, Frame frame, Panel panel) {
+        super(game, frame, panel);
+    }
+
+    @Override
+    public void paint(BetterGraphics graphics) {
+        final WorldSnapshot snapshot = this.snapshot();
+        final double alpha = this.alpha();
+        for (int i = 0; i < snapshot.beamCount; i++) {
+            graphics.setLineWidth(snapshot.beamWidths[i]);
+            graphics.setColor(snapshot.beamColors[i]);
+            graphics.drawLine(
+                snapshot.beamX1s[i],
+                snapshot.beamY1s[i],
+                WorldSnapshot.lerp(snapshot.beamPreviousX2s[i], snapshot.beamX2s[i], alpha),
+                WorldSnapshot.lerp(snapshot.beamPreviousY2s[i], snapshot.beamY2s[i], alpha)
+            );
+        }
+    }
+}
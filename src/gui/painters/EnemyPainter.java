@@ -1,13 +1,12 @@
 package gui.painters;
 
-import enemies.Enemy;
 import game.Game;
 import gui.BetterGraphics;
 import gui.Frame;
 import gui.Painter;
 import gui.Panel;
+import gui.WorldSnapshot;
 import java.awt.Color;
-import location.Location;
 
 
 /**
@@ -21,15 +20,10 @@ public final class EnemyPainter extends Painter {
         super(game, frame, panel);
     }
 
-    private void drawEnemy(BetterGraphics graphics, Enemy enemy) {
-        Location location = enemy.getLocation();
-        graphics.drawImageCentered(
-            enemy.getImagePath(),
-            location.x + enemy.drawOffsetLocation.x,
-            location.y + enemy.drawOffsetLocation.y,
-            enemy.size,
-            enemy.size
-        );
+    private void drawEnemy(
+        BetterGraphics graphics, String imagePath, double x, double y, double size
+    ) {
+        graphics.drawImageCentered(imagePath, x, y, size, size);
     }
 
     private double healthBarYOffset = 2.5;
@@ -40,17 +34,11 @@ public final class EnemyPainter extends Painter {
     private Color healthBarFilledColor = new Color(0x00FF00);
     private Color healthBarEmptyColor = new Color(0xFF0000);
 
-    private void drawHealthBar(BetterGraphics graphics, Enemy enemy) {
-        final Location location = enemy.getLocation();
-
-        final double healthPercentage = Math.max(0.0, Math.min(1.0,
-            enemy.getHealth() / (double) enemy.maxHealth
-        ));
+    private void drawHealthBar(BetterGraphics graphics, double x, double y, double health) {
+        final double healthPercentage = health;
 
-        final double topLeftX = location.x - this.healthBarWidth / 2
-            + enemy.drawOffsetLocation.x;
-        final double topLeftY = location.y - this.healthBarYOffset - this.healthBarHeight / 2
-            + enemy.drawOffsetLocation.y;
+        final double topLeftX = x - this.healthBarWidth / 2;
+        final double topLeftY = y - this.healthBarYOffset - this.healthBarHeight / 2;
 
         graphics.setColor(this.healthBarPaddingColor);
         graphics.fillRect(
@@ -77,9 +65,15 @@ public final class EnemyPainter extends Painter {
 
     @Override
     public void paint(BetterGraphics graphics) {
-        for (Enemy enemy : this.game.field.enemies) {
-            this.drawEnemy(graphics, enemy);
-            this.drawHealthBar(graphics, enemy);
+        final WorldSnapshot snapshot = this.snapshot();
+        final double alpha = this.alpha();
+        for (int k = 0; k < snapshot.enemyCount; k++) {
+            final int i = snapshot.enemyDrawOrder[k];
+            // Moves smoothly from the previous snapshot, whatever the frame rate is.
+            double x = WorldSnapshot.lerp(snapshot.enemyPreviousXs[i], snapshot.enemyXs[i], alpha);
+            double y = WorldSnapshot.lerp(snapshot.enemyPreviousYs[i], snapshot.enemyYs[i], alpha);
+            this.drawEnemy(graphics, snapshot.enemyImagePaths[i], x, y, snapshot.enemySizes[i]);
+            this.drawHealthBar(graphics, x, y, snapshot.enemyHealths[i]);
         }
     }
 }
@@ -29,7 +29,7 @@ public final class LosePainter extends Painter {
 
     @Override
     public void paint(BetterGraphics graphics) {
-        if (!this.game.hasLost()) {
+        if (!this.snapshot().lost) {
             return;
         }
 
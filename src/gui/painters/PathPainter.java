@@ -6,6 +6,7 @@ import gui.Frame;
 import gui.Painter;
 import gui.Panel;
 import java.awt.Color;
+import java.util.ArrayList;
 import location.Location;
 
 
@@ -31,13 +32,14 @@ public final class PathPainter extends Painter {
 
     @Override
     public void paint(BetterGraphics graphics) {
-        if (this.game.field.path == null) {
+        final ArrayList<Location> path = this.snapshot().path;
+        if (path == null) {
             return;
         }
         for (int i = 0; i < 2; i++) {
             final double radius = i == 0 ? this.radius1 : this.radius2;
             graphics.setColor(i == 0 ? this.pathColor1 : this.pathColor2);
-            for (Location location : this.game.field.path) {
+            for (Location location : path) {
                 graphics.fillOval(
                     location.x,
                     location.y,
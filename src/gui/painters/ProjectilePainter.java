@@ -5,10 +5,7 @@ import gui.BetterGraphics;
 import gui.Frame;
 import gui.Painter;
 import gui.Panel;
-import location.Location;
-import towers.projectile.ImageProjectile;
-import towers.projectile.LineProjectile;
-import towers.projectile.Projectile;
+import gui.WorldSnapshot;
 
 
 /**
@@ -26,43 +23,41 @@ public final class ProjectilePainter extends Painter {
         super(game, frame, panel);
     }
 
-    private void paintImageProjectile(BetterGraphics graphics, ImageProjectile projectile) {
-        Location location = projectile.getLocation();
-        double y = location.y;
-
-        if (projectile.maxCurve > 0) {
-            double percentage = projectile.getPercentage();
-            y -= projectile.maxCurve * Math.sin(percentage * Math.PI);
-        }
-
+    private void paintImageProjectile(
+        BetterGraphics graphics, WorldSnapshot snapshot, int i, double alpha
+    ) {
         graphics.drawImageCentered(
-            projectile.getImagePath(),
-            location.x,
-            y,
-            projectile.size,
-            projectile.size
+            snapshot.projectileImagePaths[i],
+            WorldSnapshot.lerp(snapshot.projectilePreviousX1s[i], snapshot.projectileX1s[i], alpha),
+            WorldSnapshot.lerp(snapshot.projectilePreviousY1s[i], snapshot.projectileY1s[i], alpha),
+            snapshot.projectileSizes[i],
+            snapshot.projectileSizes[i]
         );
     }
 
-    private void paintLineProjectile(BetterGraphics graphics, LineProjectile projectile) {
-        Location start = projectile.getSourceLocation();
-        Location end = projectile.getTargetLocation();
-
-        graphics.setLineWidth(projectile.lineWidth);
-        graphics.setColor(projectile.lineColor);
-        graphics.drawLine(start.x, start.y, end.x, end.y);
+    private void paintLineProjectile(
+        BetterGraphics graphics, WorldSnapshot snapshot, int i, double alpha
+    ) {
+        graphics.setLineWidth(snapshot.projectileSizes[i]);
+        graphics.setColor(snapshot.projectileColors[i]);
+        graphics.drawLine(
+            WorldSnapshot.lerp(snapshot.projectilePreviousX1s[i], snapshot.projectileX1s[i], alpha),
+            WorldSnapshot.lerp(snapshot.projectilePreviousY1s[i], snapshot.projectileY1s[i], alpha),
+            WorldSnapshot.lerp(snapshot.projectilePreviousX2s[i], snapshot.projectileX2s[i], alpha),
+            WorldSnapshot.lerp(snapshot.projectilePreviousY2s[i], snapshot.projectileY2s[i], alpha)
+        );
     }
 
     @Override
     public void paint(BetterGraphics graphics) {
-        for (Projectile projectile : this.game.field.projectiles) {
-            if (projectile instanceof ImageProjectile) {
-                this.paintImageProjectile(graphics, (ImageProjectile) projectile);
-            } else if (projectile instanceof LineProjectile) {
-                this.paintLineProjectile(graphics, (LineProjectile) projectile);
-            } else {
-                throw new RuntimeException("Unknown projectile type.");
-            }
+        final WorldSnapshot snapshot = this.snapshot();
+        final double alpha = this.alpha();
+        // The images come first, so both loops always paint the same kind.
+        for (int i = 0; i < snapshot.imageProjectileCount; i++) {
+            this.paintImageProjectile(graphics, snapshot, i, alpha);
+        }
+        for (int i = snapshot.imageProjectileCount; i < snapshot.projectileCount; i++) {
+            this.paintLineProjectile(graphics, snapshot, i, alpha);
         }
     }
 }
@@ -1,16 +1,15 @@
 package gui.painters;
 
+import field.Field;
 import game.Game;
 import game.Option;
 import gui.BetterGraphics;
 import gui.Frame;
 import gui.Painter;
 import gui.Panel;
+import gui.WorldSnapshot;
 import java.awt.Color;
-import java.util.ArrayList;
 import location.Location;
-import towers.RangeDamageTower;
-import towers.Tower;
 
 
 /**
@@ -47,26 +46,26 @@ public final class SelectedTowerPainter extends Painter {
     private final double infoBoxPadding = 0.25;
 
     /**
-     * Draw the range of the tower if the tower has a range.
+     * Draw the range of the selected tower if the tower has a range.
      * 
      * @param graphics The graphics.
-     * @param tower    The tower.
+     * @param snapshot The snapshot.
+     * @param index    The index of the selected placeable spot (can be -1).
      */
     private void drawRange(
         BetterGraphics graphics,
-        Tower tower
+        WorldSnapshot snapshot,
+        int index
     ) {
-        if (!(tower instanceof RangeDamageTower)) {
+        if (index == -1 || Double.isNaN(snapshot.towerRanges[index])) {
             return;
         }
-        RangeDamageTower casted = (RangeDamageTower) tower;
-        Location towerLocation = tower.getLocation();
         graphics.setColor(this.rangeColor);
         graphics.setLineWidth(this.rangeLineWidth);
         graphics.drawOval(
-            towerLocation.x,
-            towerLocation.y,
-            casted.getRange()
+            snapshot.placeableXs[index],
+            snapshot.placeableYs[index],
+            snapshot.towerRanges[index]
         );
     }
 
@@ -74,15 +73,13 @@ public final class SelectedTowerPainter extends Painter {
      * Draw the option label.
      * 
      * @param graphics      The graphics.
-     * @param option        The option.
-     * @param towerLocation The location of the placeable spot/tower.
+     * @param label         The label of the option.
      * @param mouseLocation The mouse location.
      * @param enabled       Whether the option is enabled.
      */
     private void drawOptionLabel(
         BetterGraphics graphics,
-        Option option,
-        Location towerLocation,
+        String label,
         Location mouseLocation,
         boolean enabled
     ) {
@@ -92,7 +89,7 @@ public final class SelectedTowerPainter extends Painter {
             : this.optionLabelDisabledColor;
         graphics.setColor(color);
         graphics.drawStringCenteredWithBox(
-            option.getLabel(towerLocation),
+            label,
             mouseLocation.x,
             mouseLocation.y - this.optionBoxYOffset,
             graphics.new Box(
@@ -107,54 +104,55 @@ public final class SelectedTowerPainter extends Painter {
      * Draw the options.
      * 
      * @param graphics      The graphics.
+     * @param snapshot      The snapshot.
      * @param mouseLocation The mouse location (can be null).
-     * @param location      The location of the placeable spot/tower (can be null).
+     * @param index         The index of the selected placeable spot (can be -1).
      */
     private void drawOptions(
         BetterGraphics graphics,
+        WorldSnapshot snapshot,
         Location mouseLocation,
-        Location location
+        int index
     ) {
-        if (location == null) {
+        if (index == -1) {
             return;
         }
 
-        Option hoveringOption = null;
+        String hoveringLabel = null;
         boolean hoveringEnabled = false;
 
-        ArrayList<Option> options = this.game.getSelectedOptions();
-        for (int i = 0; i < options.size(); i++) {
-            Option option = options.get(i);
-            Location optionLocation = option.getLocation(location, i, options.size());
-            boolean enabled = option.shouldBeEnabled(location);
+        final int count = snapshot.optionCount;
+        for (int i = 0; i < count; i++) {
+            final double x = snapshot.optionXs[i];
+            final double y = snapshot.optionYs[i];
+            boolean enabled = snapshot.optionsEnabled[i];
             if (enabled) {
                 graphics.setTransparency(1.0);
             } else {
                 graphics.setTransparency(this.disabledTransparency);
             }
             graphics.drawImageCentered(
-                option.getImagePath(),
-                optionLocation.x,
-                optionLocation.y,
+                snapshot.optionImagePaths[i],
+                x,
+                y,
                 Option.RADIUS * 2,
                 Option.RADIUS * 2
             );
 
             if (
                 mouseLocation != null
-                    && option.isHovering(mouseLocation, location, i, options.size())
+                    && mouseLocation.distanceSquaredTo(x, y) <= Option.RADIUS * Option.RADIUS
             ) {
-                hoveringOption = option;
+                hoveringLabel = snapshot.optionLabels[i];
                 hoveringEnabled = enabled;
             }
         }
 
-        if (hoveringOption != null) {
+        if (hoveringLabel != null) {
             graphics.setTransparency(1.0);
             this.drawOptionLabel(
                 graphics,
-                hoveringOption,
-                location,
+                hoveringLabel,
                 mouseLocation,
                 hoveringEnabled
             );
@@ -165,34 +163,31 @@ public final class SelectedTowerPainter extends Painter {
      * Draw the tower stats.
      * 
      * @param graphics      The graphics.
+     * @param snapshot      The snapshot.
      * @param mouseLocation The mouse location (can be null).
-     * @param location      The location of the placeable spot/tower.
-     * @param selectedTower The selected tower (can be null).
+     * @param index         The index of the selected placeable spot (can be -1).
      */
     private void drawTowerInfo(
         BetterGraphics graphics,
+        WorldSnapshot snapshot,
         Location mouseLocation,
-        Location location,
-        Tower selectedTower
+        int index
     ) {
-        if (selectedTower == null) {
+        String[] lines = index == -1 ? null : snapshot.towerInfos[index];
+        if (lines == null) {
             if (mouseLocation == null) {
                 return;
             }
-            Location placeableLocation = this.frame.mouse.hoveringOverPlaceable(mouseLocation);
-            if (placeableLocation == null) {
-                return;
-            }
-            selectedTower = this.game.field.towers.getOrDefault(placeableLocation, null);
-            if (selectedTower == null) {
+            int hovering = this.hoveringOverPlaceable(snapshot, mouseLocation);
+            if (hovering == -1 || snapshot.towerInfos[hovering] == null) {
                 return;
             }
+            lines = snapshot.towerInfos[hovering];
         }
 
         graphics.setTransparency(1.0);
         graphics.setFont(infoFontSize);
         graphics.setColor(infoColor);
-        String[] lines = selectedTower.getInfo();
         BetterGraphics.Box box = graphics.new Box(
             this.infoBoxColor,
             this.infoBoxAlpha,
@@ -209,13 +204,32 @@ public final class SelectedTowerPainter extends Painter {
         }
     }
 
+    /**
+     * Returns the placeable spot the mouse is hovering over.
+     * 
+     * @param snapshot      The snapshot.
+     * @param mouseLocation The mouse location.
+     * @return              The index of the placeable spot, or -1 if there is none.
+     */
+    private int hoveringOverPlaceable(WorldSnapshot snapshot, Location mouseLocation) {
+        for (int i = 0; i < snapshot.placeableCount; i++) {
+            // The square is the same around either point, so no location is needed.
+            final double x = snapshot.placeableXs[i];
+            final double y = snapshot.placeableYs[i];
+            if (mouseLocation.inSameSquare(x, y, Field.SLOT_SIZE)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     @Override
     public void paint(BetterGraphics graphics) {
-        Location location = this.game.selectedLocation;
-        Tower tower = this.game.field.towers.getOrDefault(location, null);
-        this.drawRange(graphics, tower);
+        final WorldSnapshot snapshot = this.snapshot();
+        final int index = snapshot.selectedIndex;
+        this.drawRange(graphics, snapshot, index);
         Location mouseLocation = this.panel.getMouseLocation();
-        this.drawOptions(graphics, mouseLocation, location);
-        this.drawTowerInfo(graphics, mouseLocation, location, tower);
+        this.drawOptions(graphics, snapshot, mouseLocation, index);
+        this.drawTowerInfo(graphics, snapshot, mouseLocation, index);
     }
 }
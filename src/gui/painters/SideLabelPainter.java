@@ -5,6 +5,7 @@ import gui.BetterGraphics;
 import gui.Frame;
 import gui.Painter;
 import gui.Panel;
+import gui.WorldSnapshot;
 import java.awt.Color;
 
 
@@ -32,13 +33,21 @@ public final class SideLabelPainter extends Painter {
      * @return The lines of text.
      */
     private String[] getLeftLines() {
+        final WorldSnapshot snapshot = this.snapshot();
+        if (snapshot.endless) {
+            return new String[] {
+                String.format("Gold: %d", snapshot.gold),
+                String.format("Lives: %d", snapshot.lives),
+                String.format("Wave: %d (endless)", snapshot.waveNumber)
+            };
+        }
         return new String[] {
-            String.format("Gold: %d", this.game.getGold()),
-            String.format("Lives: %d", this.game.getLives()),
+            String.format("Gold: %d", snapshot.gold),
+            String.format("Lives: %d", snapshot.lives),
             String.format(
                 "Waves: %1d / %2d",
-                this.game.waveHandler.getWaveNumber(),
-                this.game.waveHandler.getMaxWave()
+                snapshot.waveNumber,
+                snapshot.maxWave
             )
         };
     }
@@ -49,11 +58,12 @@ public final class SideLabelPainter extends Painter {
      * @return The lines of text.
      */
     private String[] getRightLines() {
+        final WorldSnapshot snapshot = this.snapshot();
         return new String[] {
-            String.format("Exp: %d", this.game.getExp()),
-            String.format("Kills: %d", this.game.getEnemyKills()),
-            String.format("Gold spent: %d", this.game.getGoldSpent()),
-            String.format("Wave value: %d", this.game.waveHandler.getWaveValue())
+            String.format("Exp: %d", snapshot.exp),
+            String.format("Kills: %d", snapshot.enemyKills),
+            String.format("Gold spent: %d", snapshot.goldSpent),
+            String.format("Wave value: %d", snapshot.waveValue)
         };
     }
 
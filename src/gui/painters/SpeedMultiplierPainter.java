@@ -1,10 +1,12 @@
 package gui.painters;
 
+import field.Field;
 import game.Game;
 import gui.BetterGraphics;
 import gui.Frame;
 import gui.Painter;
 import gui.Panel;
+import java.awt.Color;
 import location.Location;
 
 
@@ -21,24 +23,22 @@ public final class SpeedMultiplierPainter extends Painter {
      */
     public SpeedMultiplierPainter(Game game, Frame frame, Panel panel) {
         super(game, frame, panel);
-        MIDDLE_LOCATION = new Location(
-            this.game.field.width - this.bottomRightXOffset - SIZE / 2,
-            this.game.field.height - this.bottomRightYOffset - SIZE / 2
-        );
+        this.middleLocation = this.game.field.speedButtonLocation;
     }
 
-    public static Location MIDDLE_LOCATION;
-    public static final double SIZE = 3.0;
-    private double bottomRightXOffset = 0.5;
-    private double bottomRightYOffset = 0.5;
+    private final Location middleLocation;
+
+    private final Color maxTextColor = new Color(0xFFFFFF);
+    private final Color maxBoxColor = new Color(0x000000);
 
     /**
      * Returns the image path.
      * 
-     * @return The image path.
+     * @param speed The speed of the game.
+     * @return      The image path, or null if there is no image for the speed.
      */
-    private String getImagePath() {
-        switch (this.game.getSpeed()) {
+    private String getImagePath(Game.Speed speed) {
+        switch (speed) {
             case ONE:
                 return "./assets/misc/speed_1x.png";
             case TWO:
@@ -49,19 +49,37 @@ public final class SpeedMultiplierPainter extends Painter {
                 return "./assets/misc/speed_5x.png";
             case TEN:
                 return "./assets/misc/speed_10x.png";
+            case MAX:
+                return null;
             default:
-                throw new RuntimeException("Invalid speed: " + this.game.getSpeed());
+                throw new RuntimeException("Invalid speed: " + speed);
         }
     }
 
     @Override
     public void paint(BetterGraphics graphics) {
+        final Game.Speed speed = this.snapshot().speed;
+        if (speed == null) {
+            return;  // Nothing was published yet.
+        }
+        final String imagePath = this.getImagePath(speed);
+        if (imagePath == null) {
+            graphics.setColor(this.maxTextColor);
+            graphics.setFont(1.2);
+            graphics.drawStringCenteredWithBox(
+                "MAX",
+                this.middleLocation.x,
+                this.middleLocation.y,
+                graphics.new Box(this.maxBoxColor, 0.5, 0.3)
+            );
+            return;
+        }
         graphics.drawImageCentered(
-            this.getImagePath(),
-            MIDDLE_LOCATION.x,
-            MIDDLE_LOCATION.y,
-            SIZE,
-            SIZE
+            imagePath,
+            this.middleLocation.x,
+            this.middleLocation.y,
+            Field.SPEED_BUTTON_SIZE,
+            Field.SPEED_BUTTON_SIZE
         );
     }
 }
@@ -28,7 +28,7 @@ public final class StartPainter extends Painter {
 
     @Override
     public void paint(BetterGraphics graphics) {
-        if (this.game.hasStarted()) {
+        if (this.snapshot().started) {
             return;
         }
         BetterGraphics.Box box = graphics.new Box(this.boxColor, 0.7, 0.5);
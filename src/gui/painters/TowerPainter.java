@@ -1,12 +1,12 @@
 package gui.painters;
 
+import field.Field;
 import game.Game;
 import gui.BetterGraphics;
 import gui.Frame;
 import gui.Painter;
 import gui.Panel;
-import location.Location;
-import towers.Tower;
+import gui.WorldSnapshot;
 
 
 /**
@@ -24,18 +24,15 @@ public final class TowerPainter extends Painter {
         super(game, frame, panel);
     }
 
-    public static final int SIZE = 4;
-
     @Override
     public void paint(BetterGraphics graphics) {
-        for (Location location : this.game.field.placeable) {
-            Tower tower = this.game.field.towers.getOrDefault(location, null);
-            String imagePath = tower == null ? Tower.UNPLACED_IMAGE_PATH : tower.getImagePath();
+        final WorldSnapshot snapshot = this.snapshot();
+        for (int i = 0; i < snapshot.placeableCount; i++) {
             graphics.drawImageCentered(
-                imagePath,
-                location.x,
-                location.y,
-                SIZE, SIZE
+                snapshot.towerImagePaths[i],
+                snapshot.placeableXs[i],
+                snapshot.placeableYs[i],
+                Field.SLOT_SIZE, Field.SLOT_SIZE
             );
         }
     }
@@ -29,7 +29,7 @@ public final class WinPainter extends Painter {
 
     @Override
     public void paint(BetterGraphics graphics) {
-        if (!this.game.hasWon()) {
+        if (!this.snapshot().won) {
             return;
         }
 
@@ -11,4 +11,24 @@ public abstract class BaseLocationable {
      * @return The location of this object on the field.
      */
     public abstract Location getLocation();
+
+    /**
+     * Returns the x coordinate of this object on the field.
+     * Override this when it can be done without creating a location.
+     * 
+     * @return The x coordinate in field pixels.
+     */
+    public double x() {
+        return this.getLocation().x;
+    }
+
+    /**
+     * Returns the y coordinate of this object on the field.
+     * Override this when it can be done without creating a location.
+     * 
+     * @return The y coordinate in field pixels.
+     */
+    public double y() {
+        return this.getLocation().y;
+    }
 }
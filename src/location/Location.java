@@ -23,6 +23,39 @@ public class Location {
         this((double) x, (double) y);
     }
 
+    /**
+     * Returns the squared distance between this location and a point.
+     * Cheaper than `distanceTo`, use this when only comparing distances.
+     * 
+     * @param x The x coordinate of the point.
+     * @param y The y coordinate of the point.
+     * @return  The squared distance between this location and the point.
+     */
+    public double distanceSquaredTo(double x, double y) {
+        final double dx = this.x - x;
+        final double dy = this.y - y;
+        return dx * dx + dy * dy;
+    }
+
+    public double distanceSquaredTo(Location other) {
+        return this.distanceSquaredTo(other.x, other.y);
+    }
+
+    public double distanceSquaredTo(BaseLocationable other) {
+        return this.distanceSquaredTo(other.x(), other.y());
+    }
+
+    /**
+     * Returns the distance between this location and a point.
+     * 
+     * @param x The x coordinate of the point.
+     * @param y The y coordinate of the point.
+     * @return  The distance between this location and the point.
+     */
+    public double distanceTo(double x, double y) {
+        return Math.sqrt(this.distanceSquaredTo(x, y));
+    }
+
     /**
      * Returns the distance between this location and another location.
      * 
@@ -30,14 +63,27 @@ public class Location {
      * @return      The distance between this location and another location.
      */
     public double distanceTo(Location other) {
-        return Math.sqrt(
-            Math.pow(this.x - other.x, 2)
-            + Math.pow(this.y - other.y, 2)
-        );
+        return this.distanceTo(other.x, other.y);
     }
 
     public double distanceTo(BaseLocationable other) {
-        return this.distanceTo(other.getLocation());
+        return this.distanceTo(other.x(), other.y());
+    }
+
+    /**
+     * Returns whether a point is within a range of this location.
+     * 
+     * @param x     The x coordinate of the point.
+     * @param y     The y coordinate of the point.
+     * @param range The range (inclusive).
+     * @return      Whether the point is within the range.
+     */
+    public boolean isWithin(double x, double y, double range) {
+        return this.distanceSquaredTo(x, y) <= range * range;
+    }
+
+    public boolean isWithin(BaseLocationable other, double range) {
+        return this.isWithin(other.x(), other.y(), range);
     }
 
     /**
@@ -63,8 +109,21 @@ public class Location {
      * @return       Whether or not this location is in the same rectangle as another location.
      */
     public boolean inSameRect(Location other, double width, double height) {
-        double otherX = other.x - width / 2;
-        double otherY = other.y - height / 2;
+        return this.inSameRect(other.x, other.y, width, height);
+    }
+
+    /**
+     * Returns whether or not this location is in a rectangle around a point.
+     * 
+     * @param x      The x coordinate of the middle of the rectangle.
+     * @param y      The y coordinate of the middle of the rectangle.
+     * @param width  The width of the rectangle.
+     * @param height The height of the rectangle.
+     * @return       Whether or not this location is in the rectangle.
+     */
+    public boolean inSameRect(double x, double y, double width, double height) {
+        double otherX = x - width / 2;
+        double otherY = y - height / 2;
         return this.x >= otherX && this.x <= otherX + width
             && this.y >= otherY && this.y <= otherY + height;
     }
@@ -77,6 +136,10 @@ public class Location {
         return this.inSameRect(other, size, size);
     }
 
+    public boolean inSameSquare(double x, double y, double size) {
+        return this.inSameRect(x, y, size, size);
+    }
+
     public boolean inSameSquare(BaseLocationable other, double size) {
         return this.inSameSquare(other.getLocation(), size);
     }
@@ -1,6 +1,7 @@
 package towers;
 
 import enemies.Enemy;
+import enemies.EnemyType;
 import game.Game;
 import location.Location;
 import towers.projectile.Projectile;
@@ -10,88 +11,65 @@ import towers.projectile.Projectile;
  * A tower that can damage enemies.
  */
 public abstract class DamageTower extends Tower {
-    protected final double damage;
     protected final boolean canAttackFlying;
+    private int target = -1;  // The handle chosen by `prepareAct`, fired at by `act`.
 
     /**
      * Constructs a tower that can damage enemies.
      * 
      * @param game            The game this tower is in.
      * @param location        The location of this tower on the field.
-     * @param cost            The cost to build this tower.
-     * @param maxLevel        The maximum level this tower can be upgraded to.
-     * @param cooldown        The cooldown of this tower after each action in game ticks.
-     * @param damage          The amount of damage this tower does to enemies.
+     * @param levels          The stats of every level, starting at level 1.
      * @param canAttackFlying Whether or not this tower can attack flying enemies.
      */
     public DamageTower(
         Game game,
         Location location,
-        int cost,
-        int maxLevel,
-        int cooldown,
-        double damage,
+        TowerStats[] levels,
         boolean canAttackFlying
     ) {
         super(
             game,
             location,
-            cost,
-            maxLevel,
-            cooldown
+            levels
         );
-        this.damage = damage;
         this.canAttackFlying = canAttackFlying;
     }
 
     /**
-     * Returns whether or not this tower can damage an enemy because of flight.
+     * Returns whether or not this tower can damage a type of enemy because of flight.
      * 
-     * @param enemy The enemy to check.
-     * @return      Whether or not this tower can damage the enemy because of flight.
+     * @param type The type of enemy to check.
+     * @return     Whether or not this tower can damage the type because of flight.
      */
-    protected boolean canDamageWithFlight(Enemy enemy) {
-        return this.canAttackFlying || !enemy.flying;
+    protected boolean canDamageWithFlight(EnemyType type) {
+        return this.canAttackFlying || !type.flying;
     }
 
     /**
      * Returns whether or not this tower can damage an enemy.
      * 
-     * @param enemy The enemy to check.
-     * @return      Whether or not this tower can damage the enemy.
+     * @param handle The handle of the enemy to check.
+     * @return       Whether or not this tower can damage the enemy.
      */
-    public boolean canDamage(Enemy enemy) {
-        return this.canDamageWithFlight(enemy);
+    public boolean canDamage(int handle) {
+        return this.canDamageWithFlight(this.game.field.enemyStore.type(handle));
     }
 
     /**
-     * Returns the multiplier of the damage of this tower.
-     * This can be dependent on the level of this tower.
-     * 
-     * @return The multiplier of the damage of this tower.
-     */
-    protected abstract double damageMultiplier();
-
-    /**
-     * Returns the damage of this tower.
+     * Returns the damage of this tower at its current level.
      * 
      * @return The damage of this tower.
      */
     public double getDamage() {
-        return this.damage * this.damageMultiplier();
+        return this.stats.damage;
     }
 
-    /**
-     * Creates the projectiles that can damage an enemy.
-     * Most of the time this will be a single projectile, but it can also be multiple.
-     * 
-     * @param enemy The enemy to damage.
-     */
-    protected abstract Projectile[] createProjectiles(Enemy enemy);
-
     /**
      * Method that gets called during each tick of a projectile.
      * Override this method when nessesary.
+     * Projectiles tick in parallel, so hits have to be recorded with
+     * `Projectile.recordHit` instead of damaging the enemy right away.
      * 
      * @param projectile The projectile that is ticking.
      * @return           Whether or not the projectile should be removed.
@@ -102,35 +80,32 @@ public abstract class DamageTower extends Tower {
     }
 
     /**
-     * Fires a projectile at an enemy.
+     * Fires at an enemy. Most towers create the projectiles that can damage it and
+     * add them to the field, most of the time a single one, but it can also be multiple.
+     * Projectiles should be taken from the pools of the field, not constructed.
      * 
-     * @param enemy The enemy to fire at.
+     * @param handle The handle of the enemy to fire at, chosen by `findEnemy`.
      */
-    protected void fireAtEnemy(Enemy enemy) {
-        for (Projectile projectile : this.createProjectiles(enemy)) {
-            if (projectile == null) {
-                continue;
-            }
-            this.game.field.projectiles.add(projectile);
-        }
+    protected abstract void fireAtEnemy(int handle);
+
+    @Override
+    public boolean prepareAct() {
+        this.target = this.findEnemy();
+        return this.target != -1;
     }
 
     @Override
-    public boolean act() {
-        Enemy enemy = this.findEnemy();
-        if (enemy == null) {
-            return false;
-        }
-        this.fireAtEnemy(enemy);
-        return true;
+    public void act() {
+        this.fireAtEnemy(this.target);
+        this.target = -1;
     }
 
     /**
-     * Returns the enemy this tower should damage, or null if no enemy can be damaged.
+     * Returns the enemy this tower should damage, or -1 if no enemy can be damaged.
      * 
-     * @return The enemy this tower should damage, or null if no enemy can be damaged.
+     * @return The handle of the enemy this tower should damage, or -1 if there is none.
      */
-    protected abstract Enemy findEnemy();
+    protected abstract int findEnemy();
 
     /**
      * Called when this tower damages an enemy.
@@ -1,9 +1,12 @@
 package towers;
 
-import enemies.Enemy;
+import enemies.EnemyStore;
+import enemies.EnemyType;
+import enemies.HandleList;
+import field.EnemyProgressIndex;
+import field.PathCoverage;
 import game.Game;
-import java.util.ArrayList;
-import java.util.function.Function;
+import java.util.function.IntToDoubleFunction;
 import location.Location;
 
 
@@ -11,132 +14,130 @@ import location.Location;
  * A tower that can damage enemies that are in a specific range.
  */
 public abstract class RangeDamageTower extends DamageTower {
-    protected final double range;
     protected TargetingMode targetingMode;
+    private final EnemyProgressIndex.CoverageProvider coverageProvider = type -> (
+        this.canDamageWithFlight(type) ? this.getCoverage(type) : null
+    );
+    private final HandleList candidates = new HandleList();  // Reused by `findEnemy`.
 
     /**
      * Constructs a tower that can damage enemies that are in a specific range.
      * 
      * @param game            The game this tower is in.
      * @param location        The location of this tower on the field.
-     * @param cost            The cost to build this tower.
-     * @param maxLevel        The maximum level this tower can be upgraded to.
-     * @param cooldown        The cooldown of this tower after each action in game ticks.
-     * @param damage          The amount of damage this tower does to enemies.
-     * @param range           The range of this tower.
+     * @param levels          The stats of every level, starting at level 1.
      * @param canAttackFlying Whether or not this tower can attack flying enemies.
      */
     public RangeDamageTower(
         Game game,
         Location location,
-        int cost,
-        int maxLevel,
-        int cooldown,
-        double damage,
-        double range,
+        TowerStats[] levels,
         boolean canAttackFlying
     ) {
         super(
             game,
             location,
-            cost,
-            maxLevel,
-            cooldown,
-            damage,
+            levels,
             canAttackFlying
         );
-        this.range = range;
         this.targetingMode = TargetingMode.FIRST;
     }
 
+    /**
+     * Returns the parts of the path where an enemy is in range of this tower.
+     * An enemy is in range when any part of it is within the range.
+     * 
+     * @param type The type of the enemy.
+     * @return     The parts of the path where an enemy of the type is in range.
+     */
+    protected PathCoverage getCoverage(EnemyType type) {
+        return this.game.field.getCoverage(this.location, this.getRange() + type.size / 2);
+    }
+
     @Override
-    public boolean canDamage(Enemy enemy) {
-        return (this.location.distanceTo(enemy) - enemy.size / 2) <= this.getRange()
-            && super.canDamage(enemy);
+    public boolean canDamage(int handle) {
+        final EnemyStore store = this.game.field.enemyStore;
+        return super.canDamage(handle)
+            && this.getCoverage(store.type(handle)).contains(store.traveledDistance(handle));
     }
 
     /**
-     * Returns a list of enemies that can be damaged by this tower.
+     * Fills a list with the enemies that can be damaged by this tower.
      * 
-     * @return A list of enemies that can be damaged by this tower.
+     * @param enemies The list to overwrite with the handles.
      */
-    protected ArrayList<Enemy> damagableEnemies() {
-        ArrayList<Enemy> enemies = new ArrayList<>();
-        for (Enemy enemy : this.game.field.enemies) {
-            if (this.canDamage(enemy)) {
-                enemies.add(enemy);
-            }
-        }
-        return enemies;
+    protected void damagableEnemies(HandleList enemies) {
+        enemies.clear();
+        this.game.field.progressIndex.addCovered(this.coverageProvider, enemies);
     }
 
     /**
      * Returns the target enemy of this tower.
      * 
-     * @param enemies The enemies to choose from.
-     * @return        The target enemy of this tower.
+     * @param enemies The handles of the enemies to choose from.
+     * @return        The handle of the target enemy of this tower, or -1 if there is none.
      */
-    protected Enemy findTarget(ArrayList<Enemy> enemies) {
-        Function<Enemy, Double> getValue;
+    protected int findTarget(HandleList enemies) {
+        final EnemyStore store = this.game.field.enemyStore;
+        IntToDoubleFunction getValue;
         switch (this.targetingMode) {
             case FIRST:
-                getValue = enemy -> -enemy.percentageDone();
+                getValue = enemy -> -store.percentageDone(enemy);
                 break;
             case LAST:
-                getValue = enemy -> enemy.percentageDone();
+                getValue = enemy -> store.percentageDone(enemy);
                 break;
             case STRONGEST:
                 // Strongest is defined as the enemy with the highest max health.
                 // After this it still has to be sorted by percentage done.
                 // Assuming max health is bigger than 1.0, this will work.
-                getValue = enemy -> -enemy.maxHealth - enemy.percentageDone();
+                getValue = enemy -> -store.maxHealth(enemy) - store.percentageDone(enemy);
                 break;
             case WEAKEST:
                 // Weakest is defined as the enemy with the lowest max health.
-                getValue = enemy -> enemy.maxHealth - enemy.percentageDone();
+                getValue = enemy -> store.maxHealth(enemy) - store.percentageDone(enemy);
                 break;
             default:
                 throw new RuntimeException("Invalid targeting mode: " + this.targetingMode);
         }
 
-        enemies.sort((enemy1, enemy2) -> {
-            double value1 = getValue.apply(enemy1);
-            double value2 = getValue.apply(enemy2);
-            if (value1 < value2) {
-                return -1;
-            } else if (value1 > value2) {
-                return 1;
-            } else {
-                return 0;
+        // Only the lowest value is needed, so there is no need to sort.
+        int target = -1;
+        double targetValue = Double.MAX_VALUE;
+        for (int i = 0; i < enemies.size(); i++) {
+            int enemy = enemies.get(i);
+            double value = getValue.applyAsDouble(enemy);
+            if (target == -1 || value < targetValue) {
+                target = enemy;
+                targetValue = value;
             }
-        });
-        return enemies.get(0);
+        }
+        return target;
     }
 
     @Override
-    protected Enemy findEnemy() {
-        ArrayList<Enemy> enemies = this.damagableEnemies();
-        if (enemies.size() == 0) {
-            return null;
+    protected int findEnemy() {
+        // The progress index is ordered, so these are a few binary searches.
+        switch (this.targetingMode) {
+            case FIRST:
+                return this.game.field.progressIndex.first(this.coverageProvider);
+            case LAST:
+                return this.game.field.progressIndex.last(this.coverageProvider);
+            default:
+                break;
         }
+        HandleList enemies = this.candidates;
+        this.damagableEnemies(enemies);
         return this.findTarget(enemies);
     }
 
     /**
-     * Returns the multiplier of the range of this tower.
-     * This can be dependent on the level of this tower.
-     * 
-     * @return The multiplier of the range of this tower.
-     */
-    protected abstract double rangeMultiplier();
-
-    /**
-     * Returns the range of this tower.
+     * Returns the range of this tower at its current level.
      * 
      * @return The range of this tower.
      */
     public double getRange() {
-        return this.range * this.rangeMultiplier();
+        return this.stats.range;
     }
 
     /**
@@ -189,5 +190,6 @@ public abstract class RangeDamageTower extends DamageTower {
      */
     public void switchTargetingMode() {
         this.targetingMode = this.nextTargetingMode();
+        this.invalidateInfo();
     }
 }
@@ -10,13 +10,16 @@ import location.Locationable;
  */
 public abstract class Tower extends Locationable {
     protected final Game game;
+    private final TowerStats[] levels;  // The stats of every level, starting at level 1.
     public final int cost;
     public final int maxLevel;
-    protected final int cooldown;
     private int totalSpent;
 
-    public int level = 1;          // The level of this tower.
+    public int level = 1;          // The level of this tower, only changed by `upgrade`.
+    protected TowerStats stats;    // The stats of the current level.
     public int remainingCooldown;  // Remaining cooldown until the next action in game ticks.
+    private boolean willAct;       // Decided by `prepareTick`, done by `applyTick`.
+    private String[] info;         // Built by `getInfo`, null when it has to be built again.
 
     public static final String UNPLACED_IMAGE_PATH = "./assets/towers/unplaced.png";
 
@@ -25,22 +28,19 @@ public abstract class Tower extends Locationable {
      * 
      * @param game     The game this tower is in.
      * @param location The location of this tower on the field.
-     * @param cost     The cost to build this tower.
-     * @param maxLevel The maximum level this tower can be upgraded to.
-     * @param cooldown The cooldown of this tower after each action in game ticks.
+     * @param levels   The stats of every level, starting at level 1.
      */
     public Tower(
         Game game,
         Location location,
-        int cost,
-        int maxLevel,
-        int cooldown
+        TowerStats[] levels
     ) {
         this.game = game;
         this.location = location;
-        this.cost = cost;
-        this.maxLevel = maxLevel;
-        this.cooldown = cooldown;
+        this.levels = levels;
+        this.stats = levels[0];
+        this.cost = this.stats.cost;
+        this.maxLevel = levels.length;
 
         // Always wait half a seconds before the first action.
         this.remainingCooldown = this.game.ticksPerSecond / 2;
@@ -67,6 +67,8 @@ public abstract class Tower extends Locationable {
         }
         this.totalSpent += this.getUpgradeCost();
         this.level++;
+        this.stats = this.levels[this.level - 1];
+        this.invalidateInfo();
     }
 
     /**
@@ -81,10 +83,10 @@ public abstract class Tower extends Locationable {
     /**
      * Returns the cost to upgrade this tower.
      * 
-     * @return The cost to upgrade this tower.
+     * @return The cost to upgrade this tower, or 0 if it cannot be upgraded.
      */
     public int getUpgradeCost() {
-        return this.cost * (this.level + 1);
+        return this.canUpgrade() ? this.levels[this.level].cost : 0;
     }
 
     /**
@@ -115,51 +117,78 @@ public abstract class Tower extends Locationable {
     }
 
     /**
-     * Performs an action.
+     * Decides whether or not to perform an action, for example by choosing a target.
+     * This must only read the field, as all towers decide at the same time.
      * 
-     * @return Whether or not this tower performed an action.
+     * @return Whether or not this tower will perform an action.
      */
-    public abstract boolean act();
+    public abstract boolean prepareAct();
 
     /**
-     * Performs an action.
+     * Performs the action decided on by `prepareAct`.
      */
-    public final void tick() {
+    public abstract void act();
+
+    /**
+     * Counts down the cooldown and decides whether or not to perform an action.
+     * This only changes this tower itself, so towers can be prepared in parallel.
+     */
+    public final void prepareTick() {
         this.remainingCooldown--;
-        int cooldown = this.getCooldown();
-        this.remainingCooldown = Math.min(this.remainingCooldown, cooldown);
-        if (this.canAct()) {
-            boolean didAct = this.act();
-            if (didAct) {
-                this.remainingCooldown = cooldown;
-            }
+        this.remainingCooldown = Math.min(this.remainingCooldown, this.getCooldown());
+        this.willAct = this.canAct() && this.prepareAct();
+    }
+
+    /**
+     * Performs the action decided on by `prepareTick`, if any.
+     * Towers have to be applied one by one, always in the same order.
+     */
+    public final void applyTick() {
+        if (this.willAct) {
+            this.willAct = false;
+            this.act();
+            this.remainingCooldown = this.getCooldown();
         }
     }
 
     /**
-     * Returns the image path of this tower.
-     * This can be dependent on the level of this tower.
+     * Returns the image path of this tower at its current level.
      * 
      * @return The image path of this tower.
      */
-    public abstract String getImagePath();
+    public String getImagePath() {
+        return this.stats.imagePath;
+    }
 
     /**
-     * Returns the multiplier of the cooldown of this tower.
-     * This can be dependent on the level of this tower.
+     * Returns the cooldown of this tower at its current level.
      * 
-     * @return The multiplier of the cooldown of this tower.
+     * @return The cooldown of this tower in game ticks.
      */
-    protected abstract double cooldownMultiplier();
+    public int getCooldown() {
+        return this.stats.cooldown;
+    }
+
+    public abstract String[] getInfo();
 
     /**
-     * Returns the cooldown of this tower.
+     * Returns the info of this tower, which is only built again after it has changed.
+     * The array must not be modified, a changed tower gets a new one.
      * 
-     * @return The cooldown of this tower.
+     * @return The info of this tower.
      */
-    public int getCooldown() {
-        return (int) (this.cooldown * this.cooldownMultiplier());
+    public final String[] getCachedInfo() {
+        if (this.info == null) {
+            this.info = this.getInfo();
+        }
+        return this.info;
     }
 
-    public abstract String[] getInfo();
+    /**
+     * Makes `getCachedInfo` build the info again.
+     * Call this whenever something that is in the info changes.
+     */
+    protected void invalidateInfo() {
+        this.info = null;
+    }
 }
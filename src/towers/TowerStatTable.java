@@ -0,0 +1,138 @@
+package towers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+
+/**
+ * The stats of every tower type at every level, read from a text file.
+ * This way the balance can be changed without recompiling.
+ *
+ * Every line of the file is a level of a tower:
+ * `name level cost cooldown damage range imagePath`, separated by whitespace.
+ * Empty lines and lines starting with `#` are skipped.
+ */
+public final class TowerStatTable {
+    public static final String DEFAULT_PATH = "./assets/towers/stats.txt";
+    private static final int COLUMNS = 7;
+
+    private final HashMap<String, ArrayList<TowerStats>> towers = new HashMap<>();
+
+    /**
+     * Holds the default table, so it is only read when it is first needed.
+     */
+    private static final class Default {
+        private static final TowerStatTable TABLE = read();
+
+        private static TowerStatTable read() {
+            try {
+                return TowerStatTable.load(DEFAULT_PATH);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read " + DEFAULT_PATH, e);
+            }
+        }
+    }
+
+    private TowerStatTable() {}
+
+    /**
+     * Returns the table read from `DEFAULT_PATH`.
+     *
+     * @return The default table.
+     */
+    public static TowerStatTable getDefault() {
+        return Default.TABLE;
+    }
+
+    /**
+     * Reads a table from a file.
+     *
+     * @param path                      The path to the file.
+     * @return                          The table.
+     * @throws IOException              If the file cannot be read.
+     * @throws IllegalArgumentException If the file is not a valid table.
+     */
+    public static TowerStatTable load(String path) throws IOException, IllegalArgumentException {
+        return parse(Files.readAllLines(Paths.get(path)));
+    }
+
+    /**
+     * Parses a table from the lines of a file.
+     *
+     * @param lines                     The lines.
+     * @return                          The table.
+     * @throws IllegalArgumentException If the lines are not a valid table.
+     */
+    public static TowerStatTable parse(List<String> lines) throws IllegalArgumentException {
+        TowerStatTable table = new TowerStatTable();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            try {
+                table.parseLine(line);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(
+                    String.format("Line %d: %s", i + 1, e.getMessage()), e
+                );
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Parses a single level of a tower and adds it to this table.
+     *
+     * @param line                      The line, which is not empty or a comment.
+     * @throws IllegalArgumentException If the line is not a valid level.
+     */
+    private void parseLine(String line) throws IllegalArgumentException {
+        String[] columns = line.split("\\s+");
+        if (columns.length != COLUMNS) {
+            throw new IllegalArgumentException(
+                String.format("Expected %d columns but got %d.", COLUMNS, columns.length)
+            );
+        }
+        String name = columns[0];
+        ArrayList<TowerStats> levels = this.towers.computeIfAbsent(
+            name, key -> new ArrayList<>()
+        );
+        // `NumberFormatException` is an `IllegalArgumentException` as well.
+        int level = Integer.parseInt(columns[1]);
+        if (level != levels.size() + 1) {
+            throw new IllegalArgumentException(String.format(
+                "Expected level %d of '%s' but got level %d.", levels.size() + 1, name, level
+            ));
+        }
+        levels.add(new TowerStats(
+            Integer.parseInt(columns[2]),
+            Integer.parseInt(columns[3]),
+            Double.parseDouble(columns[4]),
+            Double.parseDouble(columns[5]),
+            columns[6]
+        ));
+    }
+
+    /**
+     * Returns the stats of every level of a tower.
+     *
+     * @param name                      The name of the tower in the table.
+     * @return                          The stats, the first element is level 1.
+     * @throws IllegalArgumentException If the tower is not in this table.
+     */
+    public TowerStats[] get(String name) throws IllegalArgumentException {
+        ArrayList<TowerStats> levels = this.towers.get(name);
+        if (levels == null) {
+            throw new IllegalArgumentException(
+                String.format("There are no stats for '%s'.", name)
+            );
+        }
+        return levels.toArray(new TowerStats[0]);
+    }
+}
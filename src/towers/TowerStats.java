@@ -0,0 +1,40 @@
+package towers;
+
+
+/**
+ * The stats of a tower at a single level.
+ */
+public final class TowerStats {
+    public final int cost;          // The cost to build (level 1) or upgrade to this level.
+    public final int cooldown;      // The cooldown after each action in game ticks.
+    public final double damage;     // The damage of each hit.
+    public final double range;      // The range in field pixels.
+    public final String imagePath;
+
+    /**
+     * Constructs the stats of a level.
+     *
+     * @param cost                      The cost to build or upgrade to this level.
+     * @param cooldown                  The cooldown after each action in game ticks.
+     * @param damage                    The damage of each hit.
+     * @param range                     The range in field pixels.
+     * @param imagePath                 The path to the image of the tower at this level.
+     * @throws IllegalArgumentException If any of the stats is negative.
+     */
+    public TowerStats(
+        int cost,
+        int cooldown,
+        double damage,
+        double range,
+        String imagePath
+    ) throws IllegalArgumentException {
+        if (cost < 0 || cooldown < 0 || damage < 0 || range < 0) {
+            throw new IllegalArgumentException("Tower stats cannot be negative.");
+        }
+        this.cost = cost;
+        this.cooldown = cooldown;
+        this.damage = damage;
+        this.range = range;
+        this.imagePath = imagePath;
+    }
+}
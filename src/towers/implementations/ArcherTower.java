@@ -4,19 +4,16 @@ import enemies.Enemy;
 import game.Game;
 import location.Location;
 import towers.RangeDamageTower;
+import towers.TowerStatTable;
+import towers.TowerStats;
 import towers.projectile.ImageProjectile;
-import towers.projectile.Projectile;
 
 
 /**
  * An archer tower.
  */
 public final class ArcherTower extends RangeDamageTower {
-    private static final int COST = 100;
-    private static final int MAX_LEVEL = 3;
-    private static final int COOLDOWN = 40;
-    private static final double DAMAGE = 20.0;
-    private static final double RANGE = 12.5;    
+    private static final TowerStats[] LEVELS = TowerStatTable.getDefault().get("archer");
     private static final boolean CAN_DAMAGE_FLYING = true;
 
     /**
@@ -29,71 +26,11 @@ public final class ArcherTower extends RangeDamageTower {
         super(
             game,
             location,
-            COST,
-            MAX_LEVEL,
-            COOLDOWN,
-            DAMAGE,
-            RANGE,
+            LEVELS,
             CAN_DAMAGE_FLYING
         );
     }
 
-    @Override
-    public String getImagePath() {
-        switch (this.level) {
-            case 1:
-                return "./assets/towers/archer_tower_1.png";
-            case 2:
-                return "./assets/towers/archer_tower_2.png";
-            case 3:
-                return "./assets/towers/archer_tower_3.png";
-            default:
-                throw new RuntimeException("Invalid level: " + this.level);
-        }
-    }
-
-    @Override
-    protected double cooldownMultiplier() {
-        switch (this.level) {
-            case 1:
-                return 1.0;
-            case 2:
-                return 0.8;
-            case 3:
-                return 0.6;
-            default:
-                throw new RuntimeException("Invalid level: " + this.level);
-        }
-    }
-
-    @Override
-    protected double damageMultiplier() {
-        switch (this.level) {
-            case 1:
-                return 1.0;
-            case 2:
-                return 1.3;
-            case 3:
-                return 1.6;
-            default:
-                throw new RuntimeException("Invalid level: " + this.level);
-        }
-    }
-
-    @Override
-    protected double rangeMultiplier() {
-        switch (this.level) {
-            case 1:
-                return 1.0;
-            case 2:
-                return 1.4;
-            case 3:
-                return 1.6;
-            default:
-                throw new RuntimeException("Invalid level: " + this.level);
-        }
-    }
-
     private static final boolean SHOULD_MOVE = true;
     private static final double PROJECTILE_SPEED = 0.4;
     private static final String PROJECTILE_IMAGE_PATH = "./assets/projectiles/archer_tower.png";
@@ -101,21 +38,20 @@ public final class ArcherTower extends RangeDamageTower {
     private static final double PROJECTILE_MAX_CURVE = 5.0;
 
     @Override
-    protected Projectile[] createProjectiles(Enemy enemy) {
-        return new Projectile[] {
-            new ImageProjectile(
-                this.game,
-                this,
-                this,
-                enemy,
-                this.getDamage(),
-                SHOULD_MOVE,
-                PROJECTILE_SPEED,
-                PROJECTILE_SIZE,
-                PROJECTILE_MAX_CURVE,
-                PROJECTILE_IMAGE_PATH
-            )
-        };
+    protected void fireAtEnemy(int handle) {
+        ImageProjectile projectile = this.game.field.imageProjectilePool.obtain();
+        projectile.init(
+            this,
+            this,
+            this.game.field.enemyStore.view(handle),
+            this.getDamage(),
+            SHOULD_MOVE,
+            PROJECTILE_SPEED,
+            PROJECTILE_SIZE,
+            PROJECTILE_MAX_CURVE,
+            PROJECTILE_IMAGE_PATH
+        );
+        this.game.field.addProjectile(projectile);
     }
 
     @Override
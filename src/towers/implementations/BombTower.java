@@ -1,25 +1,26 @@
 package towers.implementations;
 
 import enemies.Enemy;
+import enemies.EnemyStore;
+import enemies.HandleList;
 import game.Game;
-import java.util.ArrayList;
 import location.Location;
 import towers.RangeDamageTower;
+import towers.TowerStatTable;
+import towers.TowerStats;
 import towers.projectile.ImageProjectile;
-import towers.projectile.Projectile;
 
 
 /**
  * A bomb tower.
  */
 public final class BombTower extends RangeDamageTower {
-    private static final int COST = 300;
-    private static final int MAX_LEVEL = 3;
-    private static final int COOLDOWN = 120;
-    private static final double DAMAGE = 35.0;
-    private static final double RANGE = 7.5;
+    private static final TowerStats[] LEVELS = TowerStatTable.getDefault().get("bomb");
     private static final boolean CAN_DAMAGE_FLYING = false;
 
+    // The enemies near the current explosion, reused by every hit.
+    private final HandleList nearby = new HandleList();
+
     /**
      * Constructs a bomb tower.
      * 
@@ -30,71 +31,11 @@ public final class BombTower extends RangeDamageTower {
         super(
             game,
             location,
-            COST,
-            MAX_LEVEL,
-            COOLDOWN,
-            DAMAGE,
-            RANGE,
+            LEVELS,
             CAN_DAMAGE_FLYING
         );
     }
 
-    @Override
-    public String getImagePath() {
-        switch (this.level) {
-            case 1:
-                return "./assets/towers/bomb_tower_1.png";
-            case 2:
-                return "./assets/towers/bomb_tower_2.png";
-            case 3:
-                return "./assets/towers/bomb_tower_3.png";
-            default:
-                throw new RuntimeException("Invalid level: " + this.level);
-        }
-    }
-
-    @Override
-    protected double cooldownMultiplier() {
-        switch (this.level) {
-            case 1:
-                return 1.0;
-            case 2:
-                return 0.8;
-            case 3:
-                return 0.6;
-            default:
-                throw new RuntimeException("Invalid level: " + this.level);
-        }
-    }
-
-    @Override
-    protected double damageMultiplier() {
-        switch (this.level) {
-            case 1:
-                return 1.0;
-            case 2:
-                return 1.4;
-            case 3:
-                return 1.8;
-            default:
-                throw new RuntimeException("Invalid level: " + this.level);
-        }
-    }
-
-    @Override
-    protected double rangeMultiplier() {
-        switch (this.level) {
-            case 1:
-                return 1.0;
-            case 2:
-                return 1.3;
-            case 3:
-                return 1.5;
-            default:
-                throw new RuntimeException("Invalid level: " + this.level);
-        }
-    }
-
     private static final boolean SHOULD_MOVE = true;
     private static final double PROJECTILE_SPEED = 0.2;
     private static final String PROJECTILE_IMAGE_PATH = "./assets/projectiles/bomb_tower.png";
@@ -102,21 +43,20 @@ public final class BombTower extends RangeDamageTower {
     private static final double PROJECTILE_MAX_CURVE = 6.0;
 
     @Override
-    protected Projectile[] createProjectiles(Enemy enemy) {
-        return new Projectile[] {
-            new ImageProjectile(
-                this.game,
-                this,
-                this,
-                enemy,
-                this.getDamage(),
-                SHOULD_MOVE,
-                PROJECTILE_SPEED,
-                PROJECTILE_SIZE,
-                PROJECTILE_MAX_CURVE,
-                PROJECTILE_IMAGE_PATH
-            )
-        };
+    protected void fireAtEnemy(int handle) {
+        ImageProjectile projectile = this.game.field.imageProjectilePool.obtain();
+        projectile.init(
+            this,
+            this,
+            this.game.field.enemyStore.view(handle),
+            this.getDamage(),
+            SHOULD_MOVE,
+            PROJECTILE_SPEED,
+            PROJECTILE_SIZE,
+            PROJECTILE_MAX_CURVE,
+            PROJECTILE_IMAGE_PATH
+        );
+        this.game.field.addProjectile(projectile);
     }
 
     private static final double SPLASH_DAMAGE_RANGE = 3.0;
@@ -124,26 +64,32 @@ public final class BombTower extends RangeDamageTower {
     /**
      * Returns whether or not an enemy is in splash range of a location.
      * 
-     * @param enemy    The enemy to check.
+     * @param handle   The handle of the enemy to check.
      * @param location The (target) location to check.
      * @return         Whether or not the enemy is in splash range of the location.
      */
-    private boolean enemyInSplashRange(Enemy enemy, Location location) {
-        return enemy.getLocation().distanceTo(location) <= SPLASH_DAMAGE_RANGE;
+    private boolean enemyInSplashRange(int handle, Location location) {
+        final EnemyStore store = this.game.field.enemyStore;
+        return location.isWithin(store.x(handle), store.y(handle), SPLASH_DAMAGE_RANGE);
     }
 
     @Override
     public void onTargetHit(Enemy target, double damage) {
+        // The target may already be removed, the bomb still explodes where it was.
         Location targetLocation = target.getLocation();
-        ArrayList<Enemy> hitting = new ArrayList<>();
-        for (Enemy enemy : this.game.field.enemies) {
-            if (this.enemyInSplashRange(enemy, targetLocation) && this.canDamageWithFlight(enemy)) {
-                hitting.add(enemy);
+        EnemyStore store = this.game.field.enemyStore;
+        HandleList nearby = this.nearby;
+        this.game.field.enemyGrid.addCandidates(targetLocation, SPLASH_DAMAGE_RANGE, nearby);
+        for (int i = 0; i < nearby.size(); i++) {
+            int enemy = nearby.get(i);
+            if (
+                this.enemyInSplashRange(enemy, targetLocation)
+                    && this.canDamageWithFlight(store.type(enemy))
+            ) {
+                store.onHit(enemy, damage);
             }
         }
-        for (Enemy enemy : hitting) {
-            enemy.onHit(damage);
-        }
+        nearby.clear();
     }
 
     @Override
@@ -2,22 +2,26 @@ package towers.implementations;
 
 import enemies.Enemy;
 import game.Game;
+import java.awt.Color;
 import location.Location;
 import towers.RangeDamageTower;
-import towers.projectile.ImageProjectile;
-import towers.projectile.Projectile;
+import towers.TowerStatTable;
+import towers.TowerStats;
+import towers.projectile.Beam;
 
 
 /**
  * A laser tower.
+ * Instead of firing projectiles it keeps a single beam on its target,
+ * which is damaged every tick until it leaves the range of the tower.
  */
 public final class LaserTower extends RangeDamageTower {
-    private static final int COST = 400;
-    private static final int MAX_LEVEL = 3;
-    private static final int COOLDOWN = 0;
-    private static final double DAMAGE = 0.1;
-    private static final double RANGE = 10.0;
+    private static final TowerStats[] LEVELS = TowerStatTable.getDefault().get("laser");
     private static final boolean CAN_DAMAGE_FLYING = true;
+    private static final double BEAM_WIDTH = 0.3;
+    private static final Color BEAM_COLOR = new Color(0xE8412C);
+
+    public final Beam beam = new Beam(BEAM_WIDTH, BEAM_COLOR);
 
     /**
      * Constructs a laser tower.
@@ -29,84 +33,37 @@ public final class LaserTower extends RangeDamageTower {
         super(
             game,
             location,
-            COST,
-            MAX_LEVEL,
-            COOLDOWN,
-            DAMAGE,
-            RANGE,
+            LEVELS,
             CAN_DAMAGE_FLYING
         );
     }
 
     @Override
-    public String getImagePath() {
-        switch (this.level) {
-            case 1:
-                return "./assets/towers/laser_tower_1.png";
-            case 2:
-                return "./assets/towers/laser_tower_2.png";
-            case 3:
-                return "./assets/towers/laser_tower_3.png";
-            default:
-                throw new RuntimeException("Invalid level: " + this.level);
+    protected int findEnemy() {
+        // Stay locked on to the current target for as long as it can be damaged.
+        Enemy locked = this.beam.getTarget();
+        if (locked != null && !locked.isDone() && this.canDamage(locked.getHandle())) {
+            return locked.getHandle();
         }
-    }
-
-    @Override
-    protected double cooldownMultiplier() {
-        return 0.0;
-    }
-
-    @Override
-    protected double damageMultiplier() {
-        switch (this.level) {
-            case 1:
-                return 1.0;
-            case 2:
-                return 1.4;
-            case 3:
-                return 1.8;
-            default:
-                throw new RuntimeException("Invalid level: " + this.level);
+        int target = super.findEnemy();
+        if (target == -1) {
+            this.beam.setTarget(null);
         }
+        return target;
     }
 
     @Override
-    protected double rangeMultiplier() {
-        switch (this.level) {
-            case 1:
-                return 1.0;
-            case 2:
-                return 1.5;
-            case 3:
-                return 1.8;
-            default:
-                throw new RuntimeException("Invalid level: " + this.level);
-        }
+    protected void fireAtEnemy(int handle) {
+        // No projectiles, the beam damages its target right away.
+        Enemy target = this.game.field.enemyStore.view(handle);
+        this.beam.setTarget(target);
+        this.onTargetHit(target, this.getDamage());
     }
 
-    private static final boolean SHOULD_MOVE = true;
-    private static final double PROJECTILE_SPEED = 0.5;
-    private static final String PROJECTILE_IMAGE_PATH = "./assets/projectiles/laser_tower.png";
-    private static final double PROJECTILE_SIZE = 1.0;
-    private static final double PROJECTILE_MAX_CURVE = 0.0;
-
     @Override
-    protected Projectile[] createProjectiles(Enemy enemy) {
-        return new Projectile[] {
-            new ImageProjectile(
-                this.game,
-                this,
-                this,
-                enemy,
-                this.getDamage(),
-                SHOULD_MOVE,
-                PROJECTILE_SPEED,
-                PROJECTILE_SIZE,
-                PROJECTILE_MAX_CURVE,
-                PROJECTILE_IMAGE_PATH
-            )
-        };
+    public void switchTargetingMode() {
+        super.switchTargetingMode();
+        this.beam.setTarget(null);
     }
 
     @Override
@@ -118,7 +75,7 @@ public final class LaserTower extends RangeDamageTower {
     public String[] getInfo() {
         return new String[] {
             String.format("Laser Tower (Lvl %d)", this.level),
-            "Single Target. Fires at a high frequency.",
+            "Single Target. Continuous beam that stays on its target.",
             String.format("Damage: %.2f", this.getDamage()),
             String.format("Range: %.1f", this.getRange()),
             String.format("Cooldown: %d", this.getCooldown()),
@@ -1,10 +1,13 @@
 package towers.implementations;
 
 import enemies.Enemy;
+import enemies.EnemyStore;
+import enemies.HandleList;
 import game.Game;
-import java.util.HashSet;
 import location.Location;
 import towers.RangeDamageTower;
+import towers.TowerStatTable;
+import towers.TowerStats;
 import towers.projectile.DummyTarget;
 import towers.projectile.ExtraData;
 import towers.projectile.ImageProjectile;
@@ -12,7 +15,15 @@ import towers.projectile.Projectile;
 
 
 class EnemyHitTracker extends ExtraData {
-    public HashSet<Enemy> enemiesHit = new HashSet<>();
+    public final HandleList idsHit = new HandleList();  // Ids, which survive removals.
+    public final HandleList nearby = new HandleList();  // Reused by every tick.
+    public final DummyTarget target = new DummyTarget(new Location(0, 0));  // Moved every shot.
+
+    @Override
+    public void reset() {
+        this.idsHit.clear();
+        this.nearby.clear();
+    }
 }
 
 
@@ -20,11 +31,7 @@ class EnemyHitTracker extends ExtraData {
  * A slingshot tower.
  */
 public final class SlingshotTower extends RangeDamageTower {
-    private static final int COST = 200;
-    private static final int MAX_LEVEL = 3;
-    private static final int COOLDOWN = 120;
-    private static final double DAMAGE = 20.0;
-    private static final double RANGE = 10.0;
+    private static final TowerStats[] LEVELS = TowerStatTable.getDefault().get("slingshot");
     private static final boolean CAN_DAMAGE_FLYING = true;
 
     /**
@@ -37,117 +44,49 @@ public final class SlingshotTower extends RangeDamageTower {
         super(
             game,
             location,
-            COST,
-            MAX_LEVEL,
-            COOLDOWN,
-            DAMAGE,
-            RANGE,
+            LEVELS,
             CAN_DAMAGE_FLYING
         );
     }
 
-    @Override
-    public String getImagePath() {
-        switch (this.level) {
-            case 1:
-                return "./assets/towers/slingshot_tower_1.png";
-            case 2:
-                return "./assets/towers/slingshot_tower_2.png";
-            case 3:
-                return "./assets/towers/slingshot_tower_3.png";
-            default:
-                throw new RuntimeException("Invalid level: " + this.level);
-        }
-    }
-
-    @Override
-    protected double cooldownMultiplier() {
-        switch (this.level) {
-            case 1:
-                return 1.0;
-            case 2:
-                return 0.8;
-            case 3:
-                return 0.5;
-            default:
-                throw new RuntimeException("Invalid level: " + this.level);
-        }
-    }
-
-    @Override
-    protected double damageMultiplier() {
-        switch (this.level) {
-            case 1:
-                return 1.0;
-            case 2:
-                return 2.0;
-            case 3:
-                return 3.0;
-            default:
-                throw new RuntimeException("Invalid level: " + this.level);
-        }
-    }
-
-    @Override
-    protected double rangeMultiplier() {
-        switch (this.level) {
-            case 1:
-                return 1.0;
-            case 2:
-                return 1.5;
-            case 3:
-                return 1.8;
-            default:
-                throw new RuntimeException("Invalid level: " + this.level);
-        }
-    }
-
     /**
-     * Returns the location of the border of the field that
-     * is on the line through the tower and the enemy.
+     * Moves a location to the border of the field where it is
+     * on the line through the tower and the enemy.
      * 
-     * @param enemy The enemy to target.
-     * @return      The location of the border of the field that
+     * @param handle The handle of the enemy to target.
+     * @param target The location to move, which ends up on the border of the field.
      */
-    private Location getTargetLocation(Enemy enemy) {
+    private void moveToTargetLocation(int handle, Location target) {
         Location a = this.getLocation();
-        Location b = enemy.getLocation();
+        EnemyStore store = this.game.field.enemyStore;
 
         int width = this.game.field.width;
         int height = this.game.field.height;
     
-        double dx = b.x - a.x;
-        double dy = b.y - a.y;
+        double dx = store.x(handle) - a.x;
+        double dy = store.y(handle) - a.y;
     
         if (Math.abs(dx) > Math.abs(dy)) {
             // The line is steeper in the x-direction
             if (dx > 0) {
                 // Intersection with the right border
-                return new Location(
-                    width,
-                    a.y + (width - a.x) * dy / dx
-                );
+                target.x = width;
+                target.y = a.y + (width - a.x) * dy / dx;
             } else {
                 // Intersection with the left border
-                return new Location(
-                    0,
-                    a.y - a.x * dy / dx
-                );
+                target.x = 0;
+                target.y = a.y - a.x * dy / dx;
             }
         } else {
             // The line is steeper in the y-direction
             if (dy > 0) {
                 // Intersection with the bottom border
-                return new Location(
-                    a.x + (height - a.y) * dx / dy,
-                    height
-                );
+                target.x = a.x + (height - a.y) * dx / dy;
+                target.y = height;
             } else {
                 // Intersection with the top border
-                return new Location(
-                    a.x - a.y * dx / dy,
-                    0
-                );
+                target.x = a.x - a.y * dx / dy;
+                target.y = 0;
             }
         }
     }
@@ -159,12 +98,18 @@ public final class SlingshotTower extends RangeDamageTower {
     private static final double PROJECTILE_MAX_CURVE = 0.0;
 
     @Override
-    protected Projectile[] createProjectiles(Enemy enemy) {
-        ImageProjectile projectile = new ImageProjectile(
-            this.game,
+    protected void fireAtEnemy(int handle) {
+        ImageProjectile projectile = this.game.field.imageProjectilePool.obtain();
+        // A reused projectile keeps its tracker, which was reset when it was removed.
+        if (!(projectile.extra instanceof EnemyHitTracker)) {
+            projectile.extra = new EnemyHitTracker();
+        }
+        EnemyHitTracker tracker = (EnemyHitTracker) projectile.extra;
+        this.moveToTargetLocation(handle, tracker.target.getLocation());
+        projectile.init(
             this,
             this,
-            new DummyTarget(this.getTargetLocation(enemy)),
+            tracker.target,
             this.getDamage(),
             SHOULD_MOVE,
             PROJECTILE_SPEED,
@@ -172,8 +117,7 @@ public final class SlingshotTower extends RangeDamageTower {
             PROJECTILE_MAX_CURVE,
             PROJECTILE_IMAGE_PATH
         );
-        projectile.extra = new EnemyHitTracker();
-        return new Projectile[] {projectile};
+        this.game.field.addProjectile(projectile);
     }
 
     @Override
@@ -181,13 +125,22 @@ public final class SlingshotTower extends RangeDamageTower {
         ImageProjectile imageProjectile = (ImageProjectile) projectile;
         EnemyHitTracker extra = (EnemyHitTracker) imageProjectile.extra;
         Location location = imageProjectile.getLocation();
-        for (Enemy enemy : this.game.field.enemies) {
-            if (extra.enemiesHit.contains(enemy)) {
+        EnemyStore store = this.game.field.enemyStore;
+        HandleList nearby = extra.nearby;
+        nearby.clear();
+        this.game.field.enemyGrid.addCandidates(
+            location,
+            (PROJECTILE_SIZE + this.game.field.enemyGrid.getMaxEnemySize()) / 2,
+            nearby
+        );
+        for (int i = 0; i < nearby.size(); i++) {
+            int enemy = nearby.get(i);
+            if (extra.idsHit.contains(store.id(enemy))) {
                 continue;
             }
-            if (enemy.isTouching(location, PROJECTILE_SIZE)) {
-                this.onTargetHit(enemy, imageProjectile.getDamage());
-                extra.enemiesHit.add(enemy);
+            if (store.isTouching(enemy, location.x, location.y, PROJECTILE_SIZE)) {
+                imageProjectile.recordHit(store.view(enemy));
+                extra.idsHit.add(store.id(enemy));
             }
         }
         return false;
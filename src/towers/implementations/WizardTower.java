@@ -1,23 +1,22 @@
 package towers.implementations;
 
 import enemies.Enemy;
+import enemies.EnemyStore;
+import enemies.HandleList;
 import game.Game;
 import java.awt.Color;
 import java.util.ArrayList;
 import location.Location;
 import towers.RangeDamageTower;
+import towers.TowerStatTable;
+import towers.TowerStats;
 import towers.projectile.LineProjectile;
-import towers.projectile.Projectile;
 
 /**
  * A wizard tower.
  */
 public final class WizardTower extends RangeDamageTower {
-    private static final int COST = 200;
-    private static final int MAX_LEVEL = 3;
-    private static final int COOLDOWN = 60;
-    private static final double DAMAGE = 15.0;
-    private static final double RANGE = 10.0;    
+    private static final TowerStats[] LEVELS = TowerStatTable.getDefault().get("wizard");
     private static final boolean CAN_DAMAGE_FLYING = true;
 
     /**
@@ -30,71 +29,11 @@ public final class WizardTower extends RangeDamageTower {
         super(
             game,
             location,
-            COST,
-            MAX_LEVEL,
-            COOLDOWN,
-            DAMAGE,
-            RANGE,
+            LEVELS,
             CAN_DAMAGE_FLYING
         );
     }
 
-    @Override
-    public String getImagePath() {
-        switch (this.level) {
-            case 1:
-                return "./assets/towers/wizard_tower_1.png";
-            case 2:
-                return "./assets/towers/wizard_tower_2.png";
-            case 3:
-                return "./assets/towers/wizard_tower_3.png";
-            default:
-                throw new RuntimeException("Invalid level: " + this.level);
-        }
-    }
-
-    @Override
-    protected double cooldownMultiplier() {
-        switch (this.level) {
-            case 1:
-                return 1.0;
-            case 2:
-                return 0.8;
-            case 3:
-                return 0.6;
-            default:
-                throw new RuntimeException("Invalid level: " + this.level);
-        }
-    }
-
-    @Override
-    protected double damageMultiplier() {
-        switch (this.level) {
-            case 1:
-                return 1.0;
-            case 2:
-                return 1.3;
-            case 3:
-                return 1.7;
-            default:
-                throw new RuntimeException("Invalid level: " + this.level);
-        }
-    }
-
-    @Override
-    protected double rangeMultiplier() {
-        switch (this.level) {
-            case 1:
-                return 1.0;
-            case 2:
-                return 1.3;
-            case 3:
-                return 1.5;
-            default:
-                throw new RuntimeException("Invalid level: " + this.level);
-        }
-    }
-
     private static final boolean SHOULD_MOVE = false;
     private static final int TICKS_UNTIL_HIT = 0;
     private static final int TICKS_UNTIL_DELETE = 30;
@@ -106,21 +45,22 @@ public final class WizardTower extends RangeDamageTower {
     // So the actual max offset would be sqrt(pow(maxVisualOffset, 2) * 2))
     private final double maxVisualOffset = 1.0;
 
-    private Enemy getClosestEnemy(ArrayList<Enemy> enemies, Location to) {
-        Enemy closestEnemy = null;
-        double closestDistance = Double.MAX_VALUE;
+    // The chain of the current shot, only used while firing and reused by every shot.
+    private final ArrayList<LineProjectile> chain = new ArrayList<>();
+    private final HandleList hitEnemies = new HandleList();
 
-        for (Enemy enemy : enemies) {
-            double distance = enemy.getLocation().distanceTo(to);
-            if (distance >= this.maxBounceRange) {
-                continue;
-            }
-            if (distance < closestDistance) {
-                closestEnemy = enemy;
-                closestDistance = distance;
-            }
-        }
-        return closestEnemy;
+    /**
+     * Returns the closest enemy within bounce range that has not been hit yet.
+     * 
+     * @param hit  The handles of the enemies that have already been hit.
+     * @param from The handle of the enemy to bounce from.
+     * @return     The handle of the closest enemy, or -1 if there is none.
+     */
+    private int getClosestEnemy(HandleList hit, int from) {
+        final EnemyStore store = this.game.field.enemyStore;
+        return this.game.field.enemyGrid.closestEnemy(
+            store.x(from), store.y(from), this.maxBounceRange, hit
+        );
     }
 
     /**
@@ -151,21 +91,23 @@ public final class WizardTower extends RangeDamageTower {
     }
 
     @Override
-    protected Projectile[] createProjectiles(Enemy enemy) {
+    protected void fireAtEnemy(int handle) {
         int bounceCount = this.getBounceCount();
-        Projectile[] projectiles = new Projectile[bounceCount];
-        ArrayList<Enemy> potentialEnemies = new ArrayList<>(this.game.field.enemies);
-        Enemy lastEnemy = enemy;
+        EnemyStore store = this.game.field.enemyStore;
+        ArrayList<LineProjectile> projectiles = this.chain;
+        HandleList hitEnemies = this.hitEnemies;
+        Enemy lastEnemy = null;
 
         for (int i = 0; i < bounceCount; i++) {
             if (i != 0) {
-                enemy = this.getClosestEnemy(potentialEnemies, enemy.getLocation());
-                if (enemy == null) {
+                handle = this.getClosestEnemy(hitEnemies, handle);
+                if (handle == -1) {
                     break;
                 }
             }
-            projectiles[i] = new LineProjectile(
-                this.game,
+            Enemy enemy = store.view(handle);
+            LineProjectile projectile = this.game.field.lineProjectilePool.obtain();
+            projectile.init(
                 this,
                 i == 0 ? this : lastEnemy,
                 enemy,
@@ -176,29 +118,27 @@ public final class WizardTower extends RangeDamageTower {
                 LINE_WIDTH,
                 LINE_COLOR
             );
+            projectiles.add(projectile);
             lastEnemy = enemy;
-            potentialEnemies.remove(enemy);
+            hitEnemies.add(handle);
         }
 
         // Offset the projectiles slightly to make it look more like electricity.
-        for (int i = 0; i < bounceCount; i++) {
-            if (projectiles[i] == null) {
-                continue;
-            }
+        for (int i = 0; i < projectiles.size(); i++) {
             double xOffset = this.getVisualOffset(i);
             double yOffset = this.getVisualOffset(i);
-            Location targetLocation = projectiles[i].getTargetLocation();
-            projectiles[i].setTargetLocation(
+            Location targetLocation = projectiles.get(i).getTargetLocation();
+            projectiles.get(i).setTargetLocation(
                 new Location(
                     targetLocation.x + xOffset,
                     targetLocation.y + yOffset
                 )
             );
-            if (i == bounceCount - 1 || projectiles[i + 1] == null) {
+            if (i == projectiles.size() - 1) {
                 break;
             }
-            Location sourceLocation = projectiles[i + 1].getSourceLocation();
-            projectiles[i + 1].setSourceLocation(
+            Location sourceLocation = projectiles.get(i + 1).getSourceLocation();
+            projectiles.get(i + 1).setSourceLocation(
                 new Location(
                     sourceLocation.x + xOffset,
                     sourceLocation.y + yOffset
@@ -206,7 +146,11 @@ public final class WizardTower extends RangeDamageTower {
             );
         }
 
-        return projectiles;
+        for (LineProjectile projectile : projectiles) {
+            this.game.field.addProjectile(projectile);
+        }
+        projectiles.clear();
+        hitEnemies.clear();
     }
 
     @Override
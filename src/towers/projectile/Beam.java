@@ -0,0 +1,55 @@
+package towers.projectile;
+
+import enemies.Enemy;
+import java.awt.Color;
+
+
+/**
+ * A continuous beam from a tower to the enemy it is locked on to.
+ * Unlike a projectile a beam is never removed, it only switches between
+ * targets, and the tower damages its target every tick the beam is on.
+ */
+public final class Beam {
+    public final double width;  // The width of the beam in field pixels.
+    public final Color color;
+    private Enemy target;       // null when the beam is off.
+
+    /**
+     * Constructs a beam that is off.
+     *
+     * @param width The width of the beam in field pixels.
+     * @param color The color of the beam.
+     */
+    public Beam(double width, Color color) {
+        this.width = width;
+        this.color = color;
+        this.target = null;
+    }
+
+    /**
+     * Returns the enemy this beam is locked on to.
+     *
+     * @return The target, or null if the beam is off.
+     */
+    public Enemy getTarget() {
+        return this.target;
+    }
+
+    /**
+     * Locks this beam on to an enemy.
+     *
+     * @param target The target, or null to turn the beam off.
+     */
+    public void setTarget(Enemy target) {
+        this.target = target;
+    }
+
+    /**
+     * Returns whether this beam is on and its target is still on the field.
+     *
+     * @return Whether this beam should be drawn.
+     */
+    public boolean isActive() {
+        return this.target != null && !this.target.isDone();
+    }
+}
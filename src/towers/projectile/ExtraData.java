@@ -7,4 +7,12 @@ package towers.projectile;
  * 
  * An instance of this class should be created and assigned to the `extra` field of a projectile.
  */
-public class ExtraData {}
+public class ExtraData {
+    /**
+     * Called when the projectile is reused, should forget everything about the last shot.
+     * Override this method when necessary.
+     */
+    public void reset() {
+        // Do nothing.
+    }
+}
@@ -11,16 +11,25 @@ import towers.DamageTower;
  * A projectile that can be fired by a tower that has an image.
  */
 public final class ImageProjectile extends Projectile {
-    private Location location;
-    private final double speed;
-    public final double size;
-    public final double maxCurve;
-    private final String imagePath;
+    private Location location;  // Kept when this projectile is reused.
+    private boolean moved;      // Whether `location` has been calculated since `init`.
+    private double speed;
+    public double size;
+    public double maxCurve;
+    private String imagePath;
 
     /**
-     * Constructs an image projectile.
+     * Constructs an empty image projectile, `init` has to be called before it is used.
+     * 
+     * @param game The game this projectile is in.
+     */
+    public ImageProjectile(Game game) {
+        super(game);
+    }
+
+    /**
+     * Sets up this image projectile to be fired.
      * 
-     * @param game       The game this projectile is in.
      * @param tower      The tower that fired this projectile.
      * @param source     The source of the projectile (not always equal the tower).
      * @param target     The target of the projectile.
@@ -31,8 +40,7 @@ public final class ImageProjectile extends Projectile {
      * @param maxCurve   The maximum curve of the projectile in field pixels (0 for no curve).
      * @param imagePath  The path to the image of the projectile.
      */
-    public ImageProjectile(
-        Game game,
+    public void init(
         DamageTower tower,
         BaseLocationable source,
         BaseLocationable target,
@@ -43,8 +51,7 @@ public final class ImageProjectile extends Projectile {
         double maxCurve,
         String imagePath
     ) {
-        super(
-            game,
+        super.init(
             tower,
             source,
             target,
@@ -56,6 +63,7 @@ public final class ImageProjectile extends Projectile {
         this.size = size;
         this.maxCurve = maxCurve;
         this.imagePath = imagePath;
+        this.moved = false;
     }
 
     /**
@@ -83,11 +91,23 @@ public final class ImageProjectile extends Projectile {
 
         final double x = sourceLocation.x + (targetLocation.x - sourceLocation.x) * percentage;
         final double y = sourceLocation.y + (targetLocation.y - sourceLocation.y) * percentage;
-        this.location = new Location(x, y);
+        // Nothing holds on to the location of a projectile, so it can be reused.
+        if (this.location == null) {
+            this.location = new Location(x, y);
+        } else {
+            this.location.x = x;
+            this.location.y = y;
+        }
+        this.moved = true;
     }
 
+    /**
+     * Returns the location of this projectile.
+     * 
+     * @return The location, or null if it has not moved yet.
+     */
     public Location getLocation() {
-        return this.location;
+        return this.moved ? this.location : null;
     }
 
     /**
@@ -104,7 +124,7 @@ public final class ImageProjectile extends Projectile {
         this.calculateLocation();
         if (this.hasHitTarget()) {
             if (this.target instanceof Enemy) {
-                this.tower.onTargetHit((Enemy) this.target, this.damage);
+                this.recordHit((Enemy) this.target);
             }
             return true;
         }
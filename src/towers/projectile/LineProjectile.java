@@ -11,15 +11,23 @@ import towers.DamageTower;
  * A projectile that can be fired by a tower that is a line.
  */
 public final class LineProjectile extends Projectile {
-    private final int ticksUntilHit;
-    private final int ticksUntilDelete;
-    public final double lineWidth;
-    public final Color lineColor;
+    private int ticksUntilHit;
+    private int ticksUntilDelete;
+    public double lineWidth;
+    public Color lineColor;
 
     /**
-     * Constructs a line projectile.
+     * Constructs an empty line projectile, `init` has to be called before it is used.
+     * 
+     * @param game The game this projectile is in.
+     */
+    public LineProjectile(Game game) {
+        super(game);
+    }
+
+    /**
+     * Sets up this line projectile to be fired.
      * 
-     * @param game             The game this projectile is in.
      * @param tower            The tower that fired this projectile.
      * @param source           The source of the projectile (the tower most of the time).
      * @param target           The target of the projectile (an enemy most of the time).
@@ -30,8 +38,7 @@ public final class LineProjectile extends Projectile {
      * @param lineWidth        The width of the line of the projectile in field pixels.
      * @param lineColor        The color of the line of the projectile.
      */
-    public LineProjectile(
-        Game game,
+    public void init(
         DamageTower tower,
         BaseLocationable source,
         BaseLocationable target,
@@ -42,8 +49,7 @@ public final class LineProjectile extends Projectile {
         double lineWidth,
         Color lineColor
     ) {
-        super(
-            game,
+        super.init(
             tower,
             source,
             target,
@@ -61,7 +67,7 @@ public final class LineProjectile extends Projectile {
     protected boolean duringTick() {
         if (this.ticksElapsed == this.ticksUntilHit) {
             if (this.target instanceof Enemy) {
-                this.tower.onTargetHit((Enemy) this.target, this.damage);
+                this.recordHit((Enemy) this.target);
             }
         }
         return this.ticksElapsed >= this.ticksUntilDelete;
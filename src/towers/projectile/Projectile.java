@@ -1,6 +1,8 @@
 package towers.projectile;
 
 import enemies.Enemy;
+import enemies.EnemyStore;
+import enemies.HandleList;
 import game.Game;
 import java.util.ArrayList;
 import location.BaseLocationable;
@@ -10,22 +12,39 @@ import towers.DamageTower;
 
 /**
  * A projectile that can be fired by a tower.
+ *
+ * Projectiles are reused once they are removed from the field, so a projectile
+ * is constructed empty and then set up by `init` every time it is fired.
  */
 public abstract class Projectile {
     protected final Game game;
-    protected final DamageTower tower;
-    protected final BaseLocationable source;
+    protected DamageTower tower;
+    protected BaseLocationable source;
     protected BaseLocationable target;
-    protected final double damage;
-    protected final boolean shouldMove;
-    protected final boolean shouldFindNewTarget;
+    protected double damage;
+    protected boolean shouldMove;
+    protected boolean shouldFindNewTarget;
     protected int ticksElapsed;
-    public ExtraData extra;
+    public ExtraData extra;  // Kept when this projectile is reused, but reset.
+    public int id;  // New every time this projectile is fired, in the order they are fired.
+
+    // What happened during the last tick, applied by `applyHits`.
+    private ArrayList<Enemy> hits;  // Only created when this projectile hits something.
+    private boolean finished;
+    private final HandleList nearby = new HandleList();  // Reused by every retarget.
 
     /**
-     * Constructs a projectile.
+     * Constructs an empty projectile, `init` has to be called before it is used.
+     * 
+     * @param game The game this projectile is in.
+     */
+    public Projectile(Game game) {
+        this.game = game;
+    }
+
+    /**
+     * Sets up this projectile to be fired.
      * 
-     * @param game          The game this projectile is in.
      * @param tower         The tower that fired this projectile.
      * @param source        The source of the projectile (not always equal the tower).
      * @param target        The target of the projectile.
@@ -33,8 +52,7 @@ public abstract class Projectile {
      * @param shouldMove    Whether or not the location of the points it draws from should move.
      * @param findNewTarget Whether or not it should find a new target when relevant.
      */
-    public Projectile(
-        Game game,
+    protected void init(
         DamageTower tower,
         BaseLocationable source,
         BaseLocationable target,
@@ -42,7 +60,6 @@ public abstract class Projectile {
         boolean shouldMove,
         boolean findNewTarget
     ) {
-        this.game = game;
         this.tower = tower;
         this.source = source;
         this.target = target;
@@ -50,6 +67,10 @@ public abstract class Projectile {
         this.shouldMove = shouldMove;
         this.shouldFindNewTarget = findNewTarget;
         this.ticksElapsed = 0;
+        this.finished = false;
+        this.id = this.game.field.nextProjectileId();
+        this.sourceLocation = null;
+        this.targetLocation = null;
 
         // Define the final locations if they are not going to move.
         if (!this.shouldMove) {
@@ -58,6 +79,23 @@ public abstract class Projectile {
         }
     }
 
+    /**
+     * Lets go of everything this projectile refers to, so it can wait to be reused.
+     */
+    public void clear() {
+        this.tower = null;
+        this.source = null;
+        this.target = null;
+        this.sourceLocation = null;
+        this.targetLocation = null;
+        if (this.hits != null) {
+            this.hits.clear();
+        }
+        if (this.extra != null) {
+            this.extra.reset();
+        }
+    }
+
     final double maxNewTargetDistance = 5.0;
 
     /**
@@ -68,24 +106,33 @@ public abstract class Projectile {
      */
     private void tryToFindNewEnemyTarget() {
         Location targetLocation = this.getTargetLocation();
-        ArrayList<Enemy> possibleTargets = new ArrayList<>();
-        for (Enemy enemy : this.game.field.enemies) {
-            if (!enemy.isDead()) {
+        EnemyStore store = this.game.field.enemyStore;
+        HandleList nearby = this.nearby;
+        this.game.field.enemyGrid.addCandidates(targetLocation, this.maxNewTargetDistance, nearby);
+        int newTarget = -1;
+        for (int i = 0; i < nearby.size(); i++) {
+            int enemy = nearby.get(i);
+            if (!store.isDead(enemy)) {
                 if (!this.tower.canDamage(enemy)) {
                     continue;
                 }
-                double distance = enemy.getLocation().distanceTo(targetLocation);
-                if (distance < this.maxNewTargetDistance) {
-                    possibleTargets.add(enemy);
+                double distanceSquared = targetLocation.distanceSquaredTo(
+                    store.x(enemy), store.y(enemy)
+                );
+                if (distanceSquared >= this.maxNewTargetDistance * this.maxNewTargetDistance) {
+                    continue;
+                }
+                // Pick the enemy that has traveled the furthest.
+                if (
+                    newTarget == -1
+                        || store.percentageDone(enemy) >= store.percentageDone(newTarget)
+                ) {
+                    newTarget = enemy;
                 }
             }
         }
-        if (possibleTargets.size() == 0) {
-            this.target = null;
-            return;
-        }
-        this.game.field.sortEnemies(possibleTargets);
-        this.target = possibleTargets.get(possibleTargets.size() - 1);
+        nearby.clear();
+        this.target = newTarget == -1 ? null : store.view(newTarget);
     }
 
     /**
@@ -97,23 +144,51 @@ public abstract class Projectile {
 
     /**
      * Tick this projectile.
-     * 
-     * @return Whether or not this projectile should be removed.
+     * This only changes this projectile itself, so projectiles can tick in parallel.
+     * The enemies it hits are recorded and only damaged by `applyHits`.
      */
-    public boolean tick() {
+    public void tick() {
         if (this.target instanceof Enemy) {
             if (((Enemy) this.target).isDead()) {
                 if (this.shouldFindNewTarget) {
                     this.tryToFindNewEnemyTarget();
                     if (this.target == null) {
-                        return true;
+                        this.finished = true;
+                        return;
                     }
                 }
             }
         }
-        boolean shouldRemove = this.duringTick() || this.tower.duringProjectileTick(this);
+        this.finished = this.duringTick() || this.tower.duringProjectileTick(this);
         this.ticksElapsed++;
-        return shouldRemove;
+    }
+
+    /**
+     * Records that this projectile hit an enemy during the current tick.
+     * 
+     * @param enemy The enemy that was hit.
+     */
+    public void recordHit(Enemy enemy) {
+        if (this.hits == null) {
+            this.hits = new ArrayList<>(1);
+        }
+        this.hits.add(enemy);
+    }
+
+    /**
+     * Damages the enemies hit during the last tick.
+     * Projectiles have to be applied one by one, always in the same order.
+     * 
+     * @return Whether or not this projectile should be removed.
+     */
+    public boolean applyHits() {
+        if (this.hits != null) {
+            for (int i = 0; i < this.hits.size(); i++) {
+                this.tower.onTargetHit(this.hits.get(i), this.damage);
+            }
+            this.hits.clear();
+        }
+        return this.finished;
     }
 
     private Location sourceLocation;
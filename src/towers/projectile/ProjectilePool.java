@@ -0,0 +1,46 @@
+package towers.projectile;
+
+import java.util.ArrayList;
+import java.util.function.Supplier;
+
+
+/**
+ * Keeps the removed projectiles of a single type, so they can be fired again.
+ * Once every projectile a tower can have in flight at the same time exists,
+ * firing does not allocate anymore.
+ */
+public final class ProjectilePool<T extends Projectile> {
+    private final Supplier<T> factory;
+    private final ArrayList<T> free = new ArrayList<>();
+
+    /**
+     * Constructs an empty pool.
+     *
+     * @param factory Creates a new empty projectile when the pool is empty.
+     */
+    public ProjectilePool(Supplier<T> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Returns a projectile that is not in use, which still has to be set up by `init`.
+     *
+     * @return The projectile.
+     */
+    public T obtain() {
+        if (this.free.isEmpty()) {
+            return this.factory.get();
+        }
+        return this.free.remove(this.free.size() - 1);
+    }
+
+    /**
+     * Takes back a projectile that has been removed from the field.
+     *
+     * @param projectile The projectile, which must not be used anymore.
+     */
+    public void release(T projectile) {
+        projectile.clear();
+        this.free.add(projectile);
+    }
+}